@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.util.SplittableRandom;
+
+import utility.AliasTable;
+
+/**
+ * The instants of the probability model that may replace an instant whose outcome does not match the simulated one
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+final class CandidateSet {
+    
+    static final CandidateSet NONE = new CandidateSet(new int[0], new int[0], true);
+    
+    /**
+     * The candidate rows in model order
+     */
+    final int [] rows;
+    
+    /**
+     * The distribution of the candidate rows by their weight, i.e. by the number of model records each row stands for. There is none for
+     * a single candidate.
+     */
+    private final AliasTable distribution;
+    
+    /**
+     * True if the candidates match the pressure of the ball holder. A single matching candidate is selected without a random pick.
+     */
+    final boolean matched;
+    
+    /**
+     * 
+     * @param rows The candidate rows
+     * @param weights The weight of each model row
+     * @param matched True if the candidates match the pressure of the ball holder
+     */
+    CandidateSet(int [] rows, int [] weights, boolean matched) {
+        
+        this.rows = rows;
+        this.matched = matched;
+        
+        if (rows.length > 1) {
+            
+            double [] rowWeights = new double[rows.length];
+            
+            for (int i = 0; i < rows.length; i++) {
+                rowWeights[i] = weights[rows[i]];
+            }
+            
+            this.distribution = new AliasTable(rowWeights);
+            
+        } else {
+            this.distribution = null;
+        }
+    }
+    
+    /**
+     * Restores a candidate set with its distribution already built
+     * @param rows The candidate rows
+     * @param distribution The distribution of the rows by their weight; none for a single candidate
+     * @param matched True if the candidates match the pressure of the ball holder
+     */
+    CandidateSet(int [] rows, AliasTable distribution, boolean matched) {
+        this.rows = rows;
+        this.distribution = distribution;
+        this.matched = matched;
+    }
+    
+    AliasTable getDistribution() {
+        return this.distribution;
+    }
+    
+    boolean isEmpty() {
+        return rows.length == 0;
+    }
+    
+    /**
+     * Picks one of the candidate rows with a probability proportional to its weight. This is the same as picking uniformly one of the
+     * model records the candidates stand for.
+     * @param rnd The random number generator of the match
+     * @return The selected row
+     */
+    int select(SplittableRandom rnd) {
+        
+        if (distribution == null) {
+            return rows[rnd.nextInt(rows.length)];
+        }
+        
+        return rows[distribution.sample(rnd)];
+    }
+
+}
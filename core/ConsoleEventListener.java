@@ -18,25 +18,16 @@
 package core;
 
 /**
- * Wrapper class used for reading the probability model file 
+ * Prints every event of a match to System.out, one line per event
  * 
  * @author Andreas Tasoulas
  *
  */
 
-public class WrapperObject {
+public class ConsoleEventListener implements MatchEventListener {
     
-    private byte [] currentRow = new byte[Constants.REC_SIZE];
-    
-    public void setCurrentRow(byte [] currentRow) {
-        this.currentRow = currentRow;
-    }
-    
-    public byte [] getCurrentRow() {
-        return this.currentRow;
+    public void onEvent(MatchEvent event) {
+        System.out.println(event);
     }
-    
-    public WrapperObject(byte [] currentRow) {
-        setCurrentRow(currentRow);
-    }    
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Prints the highlights of a match to System.out while it is being played, and the match events, the team stats and the player ratings
+ * at the final whistle. The highlights are rendered in the language of the locale of the output.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class ConsoleOutput implements MatchOutput {
+    
+    private ResourceBundle highlightTexts;
+    
+    /**
+     * Console output in the default locale
+     */
+    public ConsoleOutput() {
+        this(Locale.getDefault());
+    }
+    
+    /**
+     * 
+     * @param locale The locale of the highlight texts
+     */
+    public ConsoleOutput(Locale locale) {
+        this.highlightTexts = ResourceBundle.getBundle("core.HighlightText", locale);
+    }
+    
+    public void highlight(int time, Highlight highlight) {
+        System.out.println(highlight.render(highlightTexts));
+    }
+    
+    public void fullTime(Match match) {
+        
+        Team homeTeam = match.getHomeTeam();
+        Team awayTeam = match.getAwayTeam();
+        
+        System.out.println("Match events");
+        System.out.println("-------------");
+        System.out.println();
+        
+        System.out.println(homeTeam.getName());
+        printTeamSummary(match, homeTeam);
+        
+        System.out.println();
+        
+        System.out.println(awayTeam.getName());
+        printTeamSummary(match, awayTeam);
+        
+        System.out.println();
+        
+        System.out.println("Stats");
+        System.out.println("------");
+        System.out.println();
+        
+        int totalBallPossession = match.getStats(homeTeam).getPossessionCount() + match.getStats(awayTeam).getPossessionCount();
+        
+        System.out.println(homeTeam.getName());
+        printTeamStats(match, homeTeam, totalBallPossession);
+        
+        System.out.println();
+        
+        System.out.println(awayTeam.getName());
+        printTeamStats(match, awayTeam, totalBallPossession);
+        
+        // Print individual player ratings
+        
+        System.out.println();
+        System.out.println("Player ratings");
+        System.out.println();
+        
+        printPlayerRatings(match, homeTeam);
+        
+        System.out.println();
+        
+        printPlayerRatings(match, awayTeam);
+    }
+    
+    /**
+     * Print team main events descriptions (goals and missed penalties) to System.out 
+     * @param match The match
+     * @param team The team object
+     */
+    private void printTeamSummary(Match match, Team team) {
+        for (Team.GoalDetails goalEvent:match.getEvents(team).getGoalDetails()) {
+            System.out.println(goalEvent);
+        }
+        for (Team.MissedPenaltyDetails missedPenalty:match.getEvents(team).getPenaltyDetails()) {
+            System.out.println(missedPenalty);
+        }
+    }
+    
+    /**
+     * Print team stats to System.out
+     * @param match The match
+     * @param team The team object
+     * @param ballInPlay The match duration in virtual time
+     */
+    private void printTeamStats(Match match, Team team, int ballInPlay) {
+        
+        Team.Stats stats = match.getStats(team);
+        
+        double ballPossession = (double) stats.getPossessionCount() / (double) ballInPlay;
+        ballPossession *= 100;
+        
+        System.out.println("Ball possession: " + new Double(Math.round(ballPossession)).intValue() + "%");
+        
+        System.out.println("Shots on target: " + stats.getShotOnTarget());
+        System.out.println("Shots off target: " + stats.getShotsOffTarget());
+        System.out.println("Corner kicks: " + stats.getCornerKicks());
+        System.out.println("Offsides: " + stats.getOffsides());
+        System.out.println("Free kicks: " + stats.getFreeKicks());
+    }
+    
+    /**
+     * Print the ratings of the players of a team to System.out
+     * @param match The match
+     * @param team The team object
+     */
+    private void printPlayerRatings(Match match, Team team) {
+        
+        Collection<gameplay.Player> lineup = match.getLineup(team);
+        
+        System.out.println(team.getName());
+        System.out.println();
+        
+        for (gameplay.Player currentPlayer:lineup) {
+            System.out.println(currentPlayer.getFamilyName() + " : " + match.getStats(currentPlayer).getRating(team, currentPlayer));
+            System.out.println();
+        }
+    }
+
+}
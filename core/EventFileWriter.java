@@ -0,0 +1,143 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes the events of one or more matches to a file, one line per event. The events are queued and written by a thread of the writer, 
+ * so the matches are not held up by the file I/O. The writer has to be closed when the matches have ended, so that the remaining events
+ * are written. Events sent after the writer has been closed are rejected.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class EventFileWriter implements MatchEventListener {
+    
+    private final static int QUEUE_CAPACITY = 4096;
+    
+    // Queued after the last event to stop the writing thread
+    private final static MatchEvent END_OF_EVENTS = new MatchEvent(0, 0, MatchEvent.NONE, MatchEvent.NONE, MatchEvent.NONE, MatchEvent.NONE);
+    
+    private final BlockingQueue<MatchEvent> events = new ArrayBlockingQueue<MatchEvent>(QUEUE_CAPACITY);
+    private final PrintWriter outputStream;
+    private final Thread writer;
+    
+    // Matches queue their events under the read lock, so closing the writer waits for the events being queued and none is queued after it
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed = false;
+    
+    /**
+     * 
+     * @param filename The events filename
+     * @throws IOException If the file cannot be created
+     */
+    public EventFileWriter(String filename) throws IOException {
+        
+        this.outputStream = new PrintWriter(new BufferedWriter(new FileWriter(filename)));
+        
+        this.writer = new Thread(new Runnable() {
+            
+            public void run() {
+                
+                try {
+                    
+                    MatchEvent event = events.take();
+                    
+                    while (event != END_OF_EVENTS) {
+                        outputStream.println(event);
+                        event = events.take();
+                    }
+                    
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    
+                    // Whatever is still queued is written before the file is closed
+                    MatchEvent event = events.poll();
+                    
+                    while (event != null) {
+                        if (event != END_OF_EVENTS) outputStream.println(event);
+                        event = events.poll();
+                    }
+                    
+                    outputStream.close();
+                }
+            }
+            
+        }, "EventFileWriter " + filename);
+        
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    /**
+     * Queues an event to be written. If the queue is full, the match waits until there is room for it.
+     * @param event The event
+     * @throws IllegalStateException If the writer has been closed
+     */
+    public void onEvent(MatchEvent event) {
+        
+        closeLock.readLock().lock();
+        
+        try {
+            
+            if (closed) {
+                throw new IllegalStateException("Event file writer is closed");
+            }
+            
+            events.put(event);
+            
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Writes the remaining events and closes the file
+     * @throws InterruptedException If interrupted while waiting for the events to be written
+     */
+    public void close() throws InterruptedException {
+        
+        closeLock.writeLock().lock();
+        
+        try {
+            
+            if (closed) return;
+            
+            closed = true;
+            
+            events.put(END_OF_EVENTS);
+            
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        
+        writer.join();
+    }
+
+}
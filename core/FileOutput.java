@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collection;
+
+import report.Report;
+import report.ReportObject;
+
+/**
+ * Writes the files of a match at the final whistle. These are:
+ * Match report: Contains a codified match report for debugging purposes
+ * Player stats: Analytic player stats
+ * Player stats summary: More 'human-readable' player stats summary
+ * A file without a filename is not written.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class FileOutput implements MatchOutput {
+    
+    private String matchReportFilename;
+    private String playerStatsFilename;
+    private String playerStatsSummFilename;
+    
+    /**
+     * 
+     * @param matchReportFilename Match report filename
+     * @param playerStatsFilename Player stats filename
+     * @param statsSummaryFilename Stats summary filename
+     */
+    public FileOutput(String matchReportFilename, String playerStatsFilename, String statsSummaryFilename) {
+        this.matchReportFilename = matchReportFilename;
+        this.playerStatsFilename = playerStatsFilename;
+        this.playerStatsSummFilename = statsSummaryFilename;
+    }
+    
+    public void highlight(int time, Highlight highlight) {
+        
+    }
+    
+    public void fullTime(Match match) {
+        
+        if (matchReportFilename != null) {
+            writeMatchReport(match);
+        }
+        
+        if (playerStatsFilename != null) {
+            writePlayerStats(match);
+        }
+        
+        if (playerStatsSummFilename != null) {
+            writePlayerStatsSummary(match);
+        }
+    }
+    
+    /**
+     * Construct the match report and save it to a file
+     * @param match The match
+     */
+    private void writeMatchReport(Match match) {
+        
+        try {
+            
+            PrintWriter outputStream = new PrintWriter(new FileWriter(matchReportFilename));
+            
+            for (ReportObject currentEvent:match.getMatchReport().getReport()) {
+                
+                String currentLine = "";
+                
+                State actionState = currentEvent.getActionState();
+                currentLine += actionState.toString() + "," + Constants.actionDescription[currentEvent.getAction()];
+                
+                if (currentEvent.isSpecial()) {
+                    currentLine += "-> " + Report.resultDescription[currentEvent.getSpecial()];
+                }
+                
+                outputStream.println(currentEvent.getActionState().getPlayer().getFamilyName());
+                outputStream.println(currentLine);
+            }
+            
+            outputStream.close();
+            
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+        }
+    }
+    
+    private void writePlayerStats(Match match) {
+        
+        try {
+            
+            PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsFilename));
+            
+            writePlayerStats(outputStream, match, match.getLineup(match.getHomeTeam()));
+            writePlayerStats(outputStream, match, match.getLineup(match.getAwayTeam()));
+            
+            outputStream.close();
+            
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+        }
+    }
+    
+    private void writePlayerStats(PrintWriter outputStream, Match match, Collection<gameplay.Player> lineup) {
+        
+        for (gameplay.Player currentPlayer:lineup) {
+            
+            PlayerStats stats = match.getStats(currentPlayer);
+            
+            outputStream.println(currentPlayer.getFamilyName());
+            
+            for (StatCategory category:StatCategories.getAll()) {
+                
+                if (category.getRating() == StatCategory.Rating.PERCENTAGE) {
+                    outputStream.println(category.getName() + ": " + stats.getSuccessful(category) + "/" + stats.getTotal(category));
+                } else {
+                    outputStream.println(category.getName() + ": " + stats.getTotal(category));
+                }
+            }
+            
+            outputStream.println();
+        }
+    }
+    
+    private void writePlayerStatsSummary(Match match) {
+        
+        try {
+            
+            PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsSummFilename));
+            
+            writePlayerStatsSummary(outputStream, match, match.getLineup(match.getHomeTeam()));
+            writePlayerStatsSummary(outputStream, match, match.getLineup(match.getAwayTeam()));
+            
+            outputStream.close();
+            
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+        }
+    }
+    
+    private void writePlayerStatsSummary(PrintWriter outputStream, Match match, Collection<gameplay.Player> lineup) {
+        
+        for (gameplay.Player currentPlayer:lineup) {
+            
+            PlayerStats stats = match.getStats(currentPlayer);
+            
+            outputStream.println(currentPlayer.getFamilyName());
+            
+            outputStream.println("Passes: " + stats.getAllPassesSucc() + "/" + stats.getAllPassesTotal());
+            outputStream.println("Personal challenges (attacking): " + stats.getAttPersonalChallengesSucc() + "/" + stats.getAttPersonalChallengesTotal());
+            outputStream.println("Crosses: " + stats.getCrossesSucc() + "/" + stats.getCrossesTotal());
+            outputStream.println("Player runs: " + stats.getRunsSucc() + "/" + stats.getRunsTotal());
+            outputStream.println("Personal challenges won (defending): " + stats.getDefChallengesWon());
+            outputStream.println("Interceptions: " + stats.getInterceptions());
+            outputStream.println("Saves: " + stats.getSaves());
+            outputStream.println("Attempts at goal: " + stats.getAllShotsSucc() + "/" + stats.getAllShotsTotal());
+            outputStream.println("Goals scored: " + stats.getGoals());
+            outputStream.println("Penalties missed: " + stats.getPenaltiesMissed());
+            outputStream.println("Penalties saved: " + stats.getPenaltiesSaved());
+            
+            outputStream.println();
+        }
+    }
+
+}
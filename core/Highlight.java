@@ -0,0 +1,191 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import utility.Player;
+
+/**
+ * A line of the match highlights. It is kept as a type code along with the player or teams it refers to, and is only rendered as text when 
+ * it is displayed, in the language of the highlight texts bundle of the locale asked for.
+ * 
+ * @author Andreas Tasoulas
+ * 
+ * @see HighlightText
+ *
+ */
+
+public final class Highlight {
+    
+    public final static int BLANK = 0;
+    public final static int MINUTE = 1;
+    public final static int SCORE_LINE = 2;
+    public final static int END_OF_FIRST_HALF = 3;
+    public final static int END_OF_MATCH = 4;
+    public final static int END_OF_GAME = 5;
+    public final static int PENALTY_AWARDED = 6;
+    public final static int PENALTY_TAKER = 7;
+    public final static int PENALTY_SAVED = 8;
+    public final static int PENALTY_WIDE = 9;
+    public final static int SCORES = 10;
+    public final static int HAS_THE_BALL = 11;
+    public final static int GETS_THE_BALL = 12;
+    public final static int OFF_TARGET = 13;
+    public final static int DEFLECTED = 14;
+    public final static int CORNER = 15;
+    public final static int SAVES = 16;
+    public final static int SAVES_AND_HOLDS = 17;
+    public final static int HOLDS = 18;
+    public final static int SAVES_ON_THE_LINE = 19;
+    public final static int HITS_THE_POST = 20;
+    public final static int OUT_FOR_GOAL_KICK = 21;
+    public final static int OUT_FOR_CORNER = 22;
+    public final static int OUT_FOR_THROW_IN = 23;
+    public final static int CROSSES = 24;
+    public final static int LONG_SHOT = 25;
+    public final static int AREA_SHOT = 26;
+    public final static int FROM_CROSS = 27;
+    public final static int UNEXPECTED = 28;
+    
+    // The keys of the texts of the highlight types in the highlight texts bundle
+    private final static String [] keys = {"blank", "minute", "scoreLine", "endOfFirstHalf", "endOfMatch", "endOfGame", "penaltyAwarded", 
+        "penaltyTaker", "penaltySaved", "penaltyWide", "scores", "hasTheBall", "getsTheBall", "offTarget", "deflected", "corner", "saves", 
+        "savesAndHolds", "holds", "savesOnTheLine", "hitsThePost", "outForGoalKick", "outForCorner", "outForThrowIn", "crosses", "longShot", 
+        "areaShot", "fromCross", "unexpected"};
+    
+    private final static String BUNDLE_NAME = "core.HighlightText";
+    
+    private final int type;
+    private final Player player;
+    private final Team team;
+    private final Team opponent;
+    private final int value;
+    private final int opponentValue;
+    
+    private Highlight(int type, Player player, Team team, Team opponent, int value, int opponentValue) {
+        this.type = type;
+        this.player = player;
+        this.team = team;
+        this.opponent = opponent;
+        this.value = value;
+        this.opponentValue = opponentValue;
+    }
+    
+    /**
+     * A highlight without any references, e.g. "Hits the post!"
+     * @param type The highlight type
+     */
+    public Highlight(int type) {
+        this(type, null, null, null, 0, 0);
+    }
+    
+    /**
+     * A highlight about a player, e.g. "Kant saves"
+     * @param type The highlight type
+     * @param player The player
+     */
+    public Highlight(int type, Player player) {
+        this(type, player, null, null, 0, 0);
+    }
+    
+    /**
+     * A highlight about a team, e.g. "Penalty for Greece!"
+     * @param type The highlight type
+     * @param team The team
+     */
+    public Highlight(int type, Team team) {
+        this(type, null, team, null, 0, 0);
+    }
+    
+    /**
+     * A highlight with a number, e.g. the minute
+     * @param type The highlight type
+     * @param value The number
+     */
+    public Highlight(int type, int value) {
+        this(type, null, null, null, value, 0);
+    }
+    
+    /**
+     * The score line highlight
+     * @param homeTeam The home team object
+     * @param homeGoals The goals scored by the home team
+     * @param awayTeam The away team object
+     * @param awayGoals The goals scored by the away team
+     */
+    public Highlight(Team homeTeam, int homeGoals, Team awayTeam, int awayGoals) {
+        this(SCORE_LINE, null, homeTeam, awayTeam, homeGoals, awayGoals);
+    }
+    
+    public int getType() {
+        return this.type;
+    }
+    
+    public Player getPlayer() {
+        return this.player;
+    }
+    
+    public Team getTeam() {
+        return this.team;
+    }
+    
+    /**
+     * Renders the highlight with the texts of a locale
+     * @param locale The locale
+     * @return The highlight text
+     */
+    public String render(Locale locale) {
+        return render(ResourceBundle.getBundle(BUNDLE_NAME, locale));
+    }
+    
+    /**
+     * Renders the highlight with the texts of a highlight texts bundle
+     * @param texts The bundle
+     * @return The highlight text
+     */
+    public String render(ResourceBundle texts) {
+        
+        String text = texts.getString(keys[type]);
+        
+        switch (type) {
+        case SCORE_LINE:
+            return MessageFormat.format(text, team.getName(), opponent.getName(), String.valueOf(value), String.valueOf(opponentValue));
+        case MINUTE:
+            return MessageFormat.format(text, String.valueOf(value));
+        case PENALTY_AWARDED:
+            return MessageFormat.format(text, team.getName());
+        default:
+            if (player != null) {
+                return MessageFormat.format(text, player.getFamilyName());
+            }
+            return MessageFormat.format(text, new Object[0]);
+        }
+    }
+    
+    /**
+     * 
+     * @return The highlight text in the default locale
+     */
+    public String toString() {
+        return render(Locale.getDefault());
+    }
+
+}
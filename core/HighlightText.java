@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.util.ListResourceBundle;
+
+/**
+ * The texts of the match highlights. The texts are MessageFormat patterns, with the player or team of the highlight as the first argument.
+ * Highlights are translated by adding a bundle of the same name for the language, e.g. HighlightText_el.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class HighlightText extends ListResourceBundle {
+    
+    private final static Object [][] contents = {
+        {"blank", ""},
+        {"minute", "{0}''"},
+        {"scoreLine", "{0} - {1} {2} - {3}"},
+        {"endOfFirstHalf", "End of first half"},
+        {"endOfMatch", "End of match"},
+        {"endOfGame", "End of game"},
+        {"penaltyAwarded", "Penalty for {0}!"},
+        {"penaltyTaker", "{0} is going to take it"},
+        {"penaltySaved", "{0} saves!"},
+        {"penaltyWide", "But he puts it wide"},
+        {"scores", "{0} scores!"},
+        {"hasTheBall", "{0} has the ball"},
+        {"getsTheBall", "{0} gets the ball"},
+        {"offTarget", "But he doesn''t find target"},
+        {"deflected", "The ball must have deflected somewhere..."},
+        {"corner", "It''s a corner"},
+        {"saves", "{0} saves"},
+        {"savesAndHolds", "{0} saves and holds the ball"},
+        {"holds", "{0} holds the ball"},
+        {"savesOnTheLine", "{0} saves on the line!"},
+        {"hitsThePost", "Hits the post!"},
+        {"outForGoalKick", "The ball is out for a goal kick"},
+        {"outForCorner", "The ball is out for a corner"},
+        {"outForThrowIn", "The ball is out for a throw in"},
+        {"crosses", "{0} crosses the ball"},
+        {"longShot", "{0} attempts a shot from long range"},
+        {"areaShot", "{0} has the ball inside the penalty area"},
+        {"fromCross", "{0} gets the ball from the cross!"},
+        {"unexpected", "{0} didn''t expect the ball"}
+    };
+    
+    protected Object [][] getContents() {
+        return contents;
+    }
+
+}
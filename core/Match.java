@@ -17,6 +17,8 @@
 
 package core;
 
+import gameplay.PlayerAttribute;
+import gameplay.PlayerAttributes;
 import interactivity.BallPossessionUpdate;
 import interactivity.CornerKick;
 import interactivity.CrossShot;
@@ -28,29 +30,32 @@ import interactivity.PenaltyKick;
 import interactivity.Shot;
 import interactivity.Signal;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Random;
-import java.util.Set;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.SplittableRandom;
 
 import report.Report;
-import report.ReportObject;
 import representation.Challenge;
 import representation.Instant;
 import representation.Opponent;
 import representation.ResultState;
 import representation.Success;
+import utility.AliasTable;
 import utility.Config;
 import utility.Player;
 import utility.RealWorldMapping;
 import utility.Tactics;
 
 /**
+ * A match between two teams.
+ * <p>
+ * Concurrency: a match is played by one thread at a time, and it owns all the state it modifies while playing: the team and player stats,
+ * the team events, the match report, the rewind signals and its random number generator. The teams, players and probability model it reads
+ * are not modified by the match, so any number of matches can be played at the same time on the same team and player objects and the same
+ * model. Changing a lineup or the skills of a player while a match using them is being played is not supported.
  * 
  * @author Andreas Tasoulas
  *
@@ -59,9 +64,6 @@ import utility.Tactics;
 public class Match {
     
     private String probModelFilename;
-    private String matchReportFilename;
-    private String playerStatsFilename;
-    private String playerStatsSummFilename;
     
     private final static int halfDuration = MatchReport.halfDuration;
     
@@ -74,9 +76,18 @@ public class Match {
     private int tempUpdateTime = 25;
     private int updateWindow = 5;
     
-    private ArrayList<WrapperObject> probModel = new ArrayList<WrapperObject>();
-    private ArrayList<Instant> matchRepresentation = new ArrayList<Instant>();
-    private static Random rnd = new Random();
+    // The model version acquired at kick-off, kept until the end of the match even if the model file is reloaded meanwhile
+    private ProbModel probModel;
+    
+    // The handle the model is acquired through; looked up by the model filename at kick-off unless it is set
+    private ProbModelHandle probModelHandle;
+    
+    // The source of every random draw of the match, seeded differently for each match unless a seed is set
+    private long seed = new SplittableRandom().nextLong();
+    private SplittableRandom rnd = new SplittableRandom(seed);
+    
+    private final static AliasTable shotOnOutcomes = new AliasTable(RealWorldMapping.ShotOnStats);
+    private final static AliasTable penaltyShotOutcomes = new AliasTable(RealWorldMapping.PenaltyShotStats);
     
     private Team homeTeam;
     private Team awayTeam;
@@ -84,6 +95,20 @@ public class Match {
     private MatchReport matchReport = new MatchReport();
     private MatchRewind matchRewind = new MatchRewind();
     
+    // Where the highlights and the summary of the match go; none for simulations, which only need the match result
+    private ArrayList<MatchOutput> outputs = new ArrayList<MatchOutput>();
+    
+    // The listeners of the structured match events; no events are created without any listeners
+    private ArrayList<MatchEventListener> eventListeners = new ArrayList<MatchEventListener>();
+    
+    // The stats and events of the teams and players in this match; kept here, so that the team and player objects are only read by the match
+    private IdentityHashMap<Team, Team.Stats> teamStats = new IdentityHashMap<Team, Team.Stats>();
+    private IdentityHashMap<Team, Team.MatchEvents> teamEvents = new IdentityHashMap<Team, Team.MatchEvents>();
+    private IdentityHashMap<gameplay.Player, PlayerStats> playerStats = new IdentityHashMap<gameplay.Player, PlayerStats>();
+    
+    // The players who have been in the lineup of each team in this match, in order of appearance
+    private IdentityHashMap<Team, LinkedHashSet<gameplay.Player>> appearances = new IdentityHashMap<Team, LinkedHashSet<gameplay.Player>>();
+    
     public MatchReport getMatchReport() {
         return this.matchReport;
     }
@@ -92,6 +117,236 @@ public class Match {
         return this.matchRewind;
     }
     
+    /**
+     * 
+     * @param team One of the teams of the match
+     * @return The stats of the team in this match
+     */
+    public Team.Stats getStats(Team team) {
+        
+        Team.Stats stats = teamStats.get(team);
+        
+        if (stats == null) {
+            stats = new Team.Stats();
+            teamStats.put(team, stats);
+        }
+        
+        return stats;
+    }
+    
+    /**
+     * 
+     * @param team One of the teams of the match
+     * @return The goals and missed penalties of the team in this match
+     */
+    public Team.MatchEvents getEvents(Team team) {
+        
+        Team.MatchEvents events = teamEvents.get(team);
+        
+        if (events == null) {
+            events = new Team.MatchEvents();
+            teamEvents.put(team, events);
+        }
+        
+        return events;
+    }
+    
+    /**
+     * 
+     * @param player A player of one of the teams of the match
+     * @return The stats of the player in this match
+     */
+    public PlayerStats getStats(gameplay.Player player) {
+        
+        PlayerStats stats = playerStats.get(player);
+        
+        if (stats == null) {
+            stats = new PlayerStats();
+            playerStats.put(player, stats);
+        }
+        
+        return stats;
+    }
+    
+    /**
+     * 
+     * @param team The player's team
+     * @param player A player of the team
+     * @return The player's rating up to the current virtual time, including the stats registered in it
+     * @see PlayerStats#getLiveRating(Team, gameplay.Player, int)
+     */
+    public double getLiveRating(Team team, gameplay.Player player) {
+        return getStats(player).getLiveRating(team, player, matchReport.getTimer() + 1);
+    }
+    
+    /**
+     * For every player potentially entering the lineup throughout the match, adjust its stats up to a certain time
+     * @param time The virtual time
+     */
+    public void adjustPlayerStatsToTime(int time) {
+        
+        for (gameplay.Player player:homeTeam.getSquadPlayers()) {
+            getStats(player).adjustToTime(time);
+        }
+        
+        for (gameplay.Player player:awayTeam.getSquadPlayers()) {
+            getStats(player).adjustToTime(time);
+        }
+    }
+    
+    /**
+     * 
+     * @return The current scoreline
+     */
+    private Highlight getScoreLine() {
+        return matchReport.getScoreLine(homeTeam, getStats(homeTeam).getGoalsScored(), awayTeam, getStats(awayTeam).getGoalsScored());
+    }
+    
+    /**
+     * Adds an output to the match. A match constructed with the output filenames prints to System.out and writes the files at the final
+     * whistle; a match with all its outputs removed is played headless.
+     * @param output The output
+     */
+    public void addOutput(MatchOutput output) {
+        this.outputs.add(output);
+    }
+    
+    /**
+     * 
+     * @param output The output to remove
+     */
+    public void removeOutput(MatchOutput output) {
+        this.outputs.remove(output);
+    }
+    
+    /**
+     * Removes all the outputs, so that the match is played headless
+     */
+    public void removeOutputs() {
+        this.outputs.clear();
+    }
+    
+    /**
+     * Adds a listener of the structured match events. Unlike the outputs, the listeners are kept by a simulated match.
+     * @param listener The listener
+     */
+    public void addEventListener(MatchEventListener listener) {
+        this.eventListeners.add(listener);
+    }
+    
+    /**
+     * 
+     * @param listener The listener to remove
+     */
+    public void removeEventListener(MatchEventListener listener) {
+        this.eventListeners.remove(listener);
+    }
+    
+    /**
+     * Passes an event to the event listeners of the match
+     * @param type The event type
+     * @param tick The virtual time of the event
+     * @param team The team of the event, or null
+     * @param player The player of the event, or null
+     * @param action The action code of the event, or MatchEvent.NONE
+     * @param outcome The outcome code of the event, or MatchEvent.NONE
+     * @see MatchEvent#MatchEvent(int, int, int, int, int, int)
+     */
+    private void fireEvent(int type, int tick, Team team, Player player, int action, int outcome) {
+        
+        if (eventListeners.isEmpty()) return;
+        
+        int teamIndex = MatchEvent.NONE;
+        
+        if (team == homeTeam) {
+            teamIndex = MatchEvent.HOME_TEAM;
+        } else if (team == awayTeam) {
+            teamIndex = MatchEvent.AWAY_TEAM;
+        }
+        
+        MatchEvent event = new MatchEvent(type, tick, teamIndex, (player != null) ? player.getShirtNo() : MatchEvent.NONE, action, outcome);
+        
+        for (MatchEventListener listener:eventListeners) {
+            listener.onEvent(event);
+        }
+    }
+    
+    /**
+     * 
+     * @param team One of the teams of the match
+     * @return The players of the team who have been in its lineup in this match, in order of appearance
+     */
+    public Collection<gameplay.Player> getAppearances(Team team) {
+        
+        LinkedHashSet<gameplay.Player> players = appearances.get(team);
+        
+        if (players == null) {
+            return Collections.emptySet();
+        }
+        
+        return Collections.unmodifiableSet(players);
+    }
+    
+    /**
+     * Records the players of the current lineups as having appeared in the match. The lineups may change between two time frames of the 
+     * match, so they are recorded every time the match is resumed.
+     */
+    private void registerAppearances() {
+        
+        for (Team team:new Team[] {homeTeam, awayTeam}) {
+            
+            LinkedHashSet<gameplay.Player> players = appearances.get(team);
+            
+            if (players == null) {
+                players = new LinkedHashSet<gameplay.Player>();
+                appearances.put(team, players);
+            }
+            
+            players.addAll(team.getPlayers());
+        }
+    }
+    
+    /**
+     * 
+     * @param team One of the teams of the match
+     * @return The players of the team who may have played in the match: the squad if there is one, otherwise the players of the lineup
+     */
+    Collection<gameplay.Player> getLineup(Team team) {
+        
+        if (team.getSquadPlayers() != null && !team.getSquadPlayers().isEmpty()) {
+            return team.getSquadPlayers();
+        } else {
+            return team.getPlayers();
+        }
+    }
+    
+    /**
+     * Sets the seed of the random number generator of the match. All the random draws of the match come from this generator, so a match
+     * played again between the same teams with the same probability model and seed is played identically. It has to be set before kick-off.
+     * @param seed The seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.rnd = new SplittableRandom(seed);
+    }
+    
+    /**
+     * 
+     * @return The seed of the random number generator of the match
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+    
+    /**
+     * Sets the handle the probability model is acquired through at kick-off, instead of looking it up by the model filename. This is used
+     * for playing many matches on the same model, which look up its handle once.
+     * @param probModelHandle The handle of the probability model
+     */
+    public void setProbModelHandle(ProbModelHandle probModelHandle) {
+        this.probModelHandle = probModelHandle;
+    }
+    
     public Team getHomeTeam() {
         return homeTeam;
     }
@@ -123,9 +378,10 @@ public class Match {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.probModelFilename = Config.readConfig(this.PROB_MODEL_KEY);
-        this.matchReportFilename = Config.readConfig(this.MATCH_REPORT_KEY);
-        this.playerStatsFilename = Config.readConfig(this.PLAYER_STATS_KEY);
-        this.playerStatsSummFilename = Config.readConfig(this.STATS_SUMMARY_KEY);
+        
+        this.outputs.add(new ConsoleOutput());
+        this.outputs.add(new FileOutput(Config.readConfig(this.MATCH_REPORT_KEY), Config.readConfig(this.PLAYER_STATS_KEY), 
+                Config.readConfig(this.STATS_SUMMARY_KEY)));
     }
     
     /**
@@ -140,7 +396,9 @@ public class Match {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.probModelFilename = probModelFilename;
-        this.matchReportFilename = matchReportFilename;
+        
+        this.outputs.add(new ConsoleOutput());
+        this.outputs.add(new FileOutput(matchReportFilename, null, null));
     }
     
     /**
@@ -153,727 +411,174 @@ public class Match {
      * @param statsSummaryFilename Stats summary filename
      * @see #Match(Team, Team)
      */
-    public Match(Team homeTeam, Team awayTeam, String probModelFilename, String matchReportFilename, String playerStatsFilename, 
-            String statsSummaryFilename) {
-        this.homeTeam = homeTeam;
-        this.awayTeam = awayTeam;
-        this.probModelFilename = probModelFilename;
-        this.matchReportFilename = matchReportFilename;
-        this.playerStatsFilename = playerStatsFilename;
-        this.playerStatsSummFilename = statsSummaryFilename;
-    }
-    
-    /**
-     * Plays the match loop starting from a certain time.
-     * 
-     * @param startTime The virtual time from which the match is resumed
-     * @return The outcome of the match at the time of its interruption
-     */
-    public Signal play(int startTime) {
-        
-        if (startTime == 0) { // Kick-off
-        
-            loadProbModel();
-        
-            // Make probability model manipulation easier
-            transformProbModel();
-        
-            Team kickOffTeam = decideKickOff();
-            matchReport.setFirstHalfKickOff(kickOffTeam);
-            matchReport.setCurrentState(new State(kickOffTeam, State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
-            matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer());
-            matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
-        }
-        
-        int probModelPool = probModel.size();
-        
-        boolean currentStateFound = false;
-        State nextState = null;
-        
-        // First half
-        if (startTime < halfDuration) {
-            
-            return playTimeFrame(probModelPool, startTime, halfDuration);
-            
-        } else if (startTime == halfDuration) {
-        
-            logHighlight(-1, "End of first half");
-        
-            logHighlight(-1, matchReport.getScoreLine(this.homeTeam, this.awayTeam));
-            logHighlight(-1, "");
-        
-            // Second half
-            matchReport.setCurrentState(new State(toggleTeam(matchReport.getFirstHalfKickOff()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
-            matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer());
-            matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
-        
-            return playTimeFrame(probModelPool, halfDuration, 2 * halfDuration);
-        
-        } else if (startTime == 2 * halfDuration) { // end of match
-        
-            // Construct the match report and save it to a file
-            
-            ArrayList<ReportObject> matchReport = this.matchReport.getReport();
-        
-            try {
-            
-                PrintWriter outputStream = new PrintWriter(new FileWriter(matchReportFilename));
-        
-                for (ReportObject currentEvent:matchReport) {
-                
-                    String currentLine = "";
-                
-                    State actionState = currentEvent.getActionState();
-                    currentLine += actionState.toString() + "," + Constants.actionDescription[currentEvent.getAction()];
-                
-                    if (currentEvent.isSpecial()) {
-                        currentLine += "-> " + Report.resultDescription[currentEvent.getSpecial()];
-                    }
-                
-                    outputStream.println(currentEvent.getActionState().getPlayer().getFamilyName());
-                    outputStream.println(currentLine);
-                }
-            
-                outputStream.close();
-            
-            } catch (IOException ioe) {
-                ioe.printStackTrace();
-            }
-            
-            Collection<gameplay.Player> homeTeamLineup;
-            Collection<gameplay.Player> awayTeamLineup;
-            
-            if (homeTeam.getSquadPlayers() != null && !homeTeam.getSquadPlayers().isEmpty()) {
-                homeTeamLineup = (ArrayList<gameplay.Player>) homeTeam.getSquadPlayers();
-            } else {
-                homeTeamLineup = (Set<gameplay.Player>) homeTeam.getPlayers();
-            }
-            
-            if (awayTeam.getSquadPlayers() != null && !awayTeam.getSquadPlayers().isEmpty()) {
-                awayTeamLineup = (ArrayList<gameplay.Player>) awayTeam.getSquadPlayers();
-            } else {
-                awayTeamLineup = (Set<gameplay.Player>) awayTeam.getPlayers();
-            }
-        
-            try {
-            
-                PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsFilename));
-            
-                for (gameplay.Player currentPlayer:homeTeamLineup) {
-                
-                    outputStream.println(currentPlayer.getFamilyName());
-                
-                    outputStream.println("Gk Long Pass: " + currentPlayer.getStats().gkLongPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().gkLongPass.getTotalAttempts());
-                
-                    outputStream.println("Long Pass: " + currentPlayer.getStats().longPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longPass.getTotalAttempts());
-                
-                    outputStream.println("Forward Pass: " + currentPlayer.getStats().forwardPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().forwardPass.getTotalAttempts());
-                
-                    outputStream.println("Flank Pass: " + currentPlayer.getStats().flankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().flankPass.getTotalAttempts());
-                
-                    outputStream.println("Ball Control: " + currentPlayer.getStats().ballControl.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().ballControl.getTotalAttempts());
-                
-                    outputStream.println("Dribbling: " + currentPlayer.getStats().dribbling.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().dribbling.getTotalAttempts());
-                
-                    outputStream.println("Long Flank Pass: " + currentPlayer.getStats().longFlankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longFlankPass.getTotalAttempts());
-                
-                    outputStream.println("Pass: " + currentPlayer.getStats().pass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().pass.getTotalAttempts());
-                
-                    outputStream.println("Area Pass: " + currentPlayer.getStats().areaPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().areaPass.getTotalAttempts());
-                
-                    outputStream.println("Run Ball: " + currentPlayer.getStats().runBall.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().runBall.getTotalAttempts());
-                
-                    outputStream.println("Low Cross: " + currentPlayer.getStats().lowCross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().lowCross.getTotalAttempts());
-                
-                    outputStream.println("Cross: " + currentPlayer.getStats().cross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().cross.getTotalAttempts());
-                
-                    outputStream.println("Shots: " + currentPlayer.getStats().shots.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().shots.getTotalAttempts());
-                
-                    outputStream.println("Headings: " + currentPlayer.getStats().headingsOnTarget.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().headingsOnTarget.getTotalAttempts());
-                
-                    outputStream.println("Individual challenges: " + currentPlayer.getStats().personalChallenges.getOccurences());
-                    outputStream.println("Interceptions: " + currentPlayer.getStats().interceptions.getOccurences());
-                    outputStream.println("Saves: " + currentPlayer.getStats().saves.getOccurences());
-                    outputStream.println("Concedings: " + currentPlayer.getStats().concedings.getOccurences());
-                    outputStream.println();
-                
-                }
-            
-                for (gameplay.Player currentPlayer:awayTeamLineup) {
-                
-                    outputStream.println(currentPlayer.getFamilyName());
-                
-                    outputStream.println("Gk Long Pass: " + currentPlayer.getStats().gkLongPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().gkLongPass.getTotalAttempts());
-                
-                    outputStream.println("Long Pass: " + currentPlayer.getStats().longPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longPass.getTotalAttempts());
-                
-                    outputStream.println("Forward Pass: " + currentPlayer.getStats().forwardPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().forwardPass.getTotalAttempts());
-                
-                    outputStream.println("Flank Pass: " + currentPlayer.getStats().flankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().flankPass.getTotalAttempts());
-                
-                    outputStream.println("Ball Control: " + currentPlayer.getStats().ballControl.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().ballControl.getTotalAttempts());
-                
-                    outputStream.println("Dribbling: " + currentPlayer.getStats().dribbling.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().dribbling.getTotalAttempts());
-                
-                    outputStream.println("Long Flank Pass: " + currentPlayer.getStats().longFlankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longFlankPass.getTotalAttempts());
-                
-                    outputStream.println("Pass: " + currentPlayer.getStats().pass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().pass.getTotalAttempts());
-                
-                    outputStream.println("Area Pass: " + currentPlayer.getStats().areaPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().areaPass.getTotalAttempts());
-                
-                    outputStream.println("Run Ball: " + currentPlayer.getStats().runBall.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().runBall.getTotalAttempts());
-                
-                    outputStream.println("Low Cross: " + currentPlayer.getStats().lowCross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().lowCross.getTotalAttempts());
-                
-                    outputStream.println("Cross: " + currentPlayer.getStats().cross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().cross.getTotalAttempts());
-                
-                    outputStream.println("Shots: " + currentPlayer.getStats().shots.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().shots.getTotalAttempts());
-                
-                    outputStream.println("Headings: " + currentPlayer.getStats().headingsOnTarget.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().headingsOnTarget.getTotalAttempts());
-                
-                    outputStream.println("Individual challenges: " + currentPlayer.getStats().personalChallenges.getOccurences());
-                    outputStream.println("Interceptions: " + currentPlayer.getStats().interceptions.getOccurences());
-                    outputStream.println("Saves: " + currentPlayer.getStats().saves.getOccurences());
-                    outputStream.println("Concedings: " + currentPlayer.getStats().concedings.getOccurences());
-                    outputStream.println();
-                
-                }
-            
-                outputStream.close();
-            
-            } catch (IOException ioe) {
-                ioe.printStackTrace();
-            }
-        
-            // Player stats summary
-        
-            try {
-            
-                PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsSummFilename));
-            
-                // Set<gameplay.Player> homeTeamLineup = homeTeam.getPlayers();
-                // Set<gameplay.Player> awayTeamLineup = awayTeam.getPlayers();
-            
-                for (gameplay.Player currentPlayer:homeTeamLineup) {
-                
-                    outputStream.println(currentPlayer.getFamilyName());
-                
-                    outputStream.println("Passes: " + currentPlayer.getStats().getAllPassesSucc() + "/" + 
-                        currentPlayer.getStats().getAllPassesTotal());
-                
-                    outputStream.println("Personal challenges (attacking): " + currentPlayer.getStats().getAttPersonalChallengesSucc() + "/" +
-                        currentPlayer.getStats().getAttPersonalChallengesTotal());
-                
-                    outputStream.println("Crosses: " + currentPlayer.getStats().getCrossesSucc() + "/" + 
-                        currentPlayer.getStats().getCrossesTotal());
-                
-                    outputStream.println("Player runs: " + currentPlayer.getStats().getRunsSucc() + "/" +
-                        currentPlayer.getStats().getRunsTotal());
-                
-                    outputStream.println("Personal challenges won (defending): " + currentPlayer.getStats().getDefChallengesWon());
-                
-                    outputStream.println("Interceptions: " + currentPlayer.getStats().getInterceptions());
-                
-                    outputStream.println("Saves: " + currentPlayer.getStats().getSaves());
-                
-                    outputStream.println("Attempts at goal: " + currentPlayer.getStats().getAllShotsSucc() + "/" +
-                        currentPlayer.getStats().getAllShotsTotal());
-                
-                    outputStream.println("Goals scored: " + currentPlayer.getStats().getGoals());
-                
-                    outputStream.println("Penalties missed: " + currentPlayer.getStats().getPenaltiesMissed());
-                
-                    outputStream.println("Penalties saved: " + currentPlayer.getStats().getPenaltiesSaved());
-                
-                    outputStream.println();
-                
-                }
-            
-                for (gameplay.Player currentPlayer:awayTeamLineup) {
-                
-                    outputStream.println(currentPlayer.getFamilyName());
-                
-                    outputStream.println("Passes: " + currentPlayer.getStats().getAllPassesSucc() + "/" + 
-                        currentPlayer.getStats().getAllPassesTotal());
-                
-                    outputStream.println("Personal challenges (attacking): " + currentPlayer.getStats().getAttPersonalChallengesSucc() + "/" +
-                        currentPlayer.getStats().getAttPersonalChallengesTotal());
-                
-                    outputStream.println("Crosses: " + currentPlayer.getStats().getCrossesSucc() + "/" + 
-                        currentPlayer.getStats().getCrossesTotal());
-                
-                    outputStream.println("Player runs: " + currentPlayer.getStats().getRunsSucc() + "/" +
-                        currentPlayer.getStats().getRunsTotal());
-                
-                    outputStream.println("Personal challenges won (defending): " + currentPlayer.getStats().getDefChallengesWon());
-                
-                    outputStream.println("Interceptions: " + currentPlayer.getStats().getInterceptions());
-                
-                    outputStream.println("Saves: " + currentPlayer.getStats().getSaves());
-                
-                    outputStream.println("Attempts at goal: " + currentPlayer.getStats().getAllShotsSucc() + "/" +
-                        currentPlayer.getStats().getAllShotsTotal());
-                
-                    outputStream.println("Goals scored: " + currentPlayer.getStats().getGoals());
-                
-                    outputStream.println("Penalties missed: " + currentPlayer.getStats().getPenaltiesMissed());
-                
-                    outputStream.println("Penalties saved: " + currentPlayer.getStats().getPenaltiesSaved());
-                
-                    outputStream.println();
-                
-                }
-            
-                outputStream.close();
-            
-            } catch (IOException ioe) {
-                ioe.printStackTrace();
-            }
-        
-            // Match summary
-            logHighlight(-1, "End of match");
-            logHighlight(-1, this.matchReport.getScoreLine(this.homeTeam, this.awayTeam));
-            logHighlight(-1, "");
-        
-            System.out.println("Match events");
-            System.out.println("-------------");
-            System.out.println();
-        
-            System.out.println(homeTeam.getName());
-            printTeamSummary(homeTeam);
-        
-            System.out.println();
-        
-            System.out.println(awayTeam.getName());
-            printTeamSummary(awayTeam);
-        
-            System.out.println();
-        
-            System.out.println("Stats");
-            System.out.println("------");
-            System.out.println();
-        
-            int totalBallPossession = homeTeam.getStats().getPossessionCount() + awayTeam.getStats().getPossessionCount();
-        
-            System.out.println(homeTeam.getName());
-            printTeamStats(homeTeam, totalBallPossession);
-        
-            System.out.println();
-        
-            System.out.println(awayTeam.getName());
-            printTeamStats(awayTeam, totalBallPossession);
-        
-            // Print individual player ratings
-        
-            System.out.println();
-            System.out.println("Player ratings");
-            System.out.println();
-        
-            // End: Player stats summary
-            
-            // ArrayList<gameplay.Player> homeTeamLineup = homeTeam.getSquadPlayers();
-            // ArrayList<gameplay.Player> awayTeamLineup = awayTeam.getSquadPlayers();
-        
-            System.out.println(homeTeam.getName());
-            System.out.println();
-        
-            for (gameplay.Player currentPlayer:homeTeamLineup) {
-                System.out.println(currentPlayer.getFamilyName() + " : " + currentPlayer.getStats().getRating(homeTeam, currentPlayer));
-                System.out.println();
-            }
-        
-            System.out.println();
-        
-            System.out.println(awayTeam.getName());
-            System.out.println();
-        
-            for (gameplay.Player currentPlayer:awayTeamLineup) {
-                System.out.println(currentPlayer.getFamilyName() + " : " + currentPlayer.getStats().getRating(awayTeam, currentPlayer));
-                System.out.println();
-            }
-        
-        } else if (startTime > halfDuration) {
-            
-            return playTimeFrame(probModelPool, startTime, 2 * halfDuration);
-            
-        }
-        
-        return null;
-        
-    }
-    
-    /**
-     * 
-     * Starts and executes the match loop. During the match and in the end it outputs the relevant statistics and events. 
-     * This is used for simulating a match from start to end without any interruptions. 
-     * 
-     */
-    public void start() {
-        
-        loadProbModel();
-        
-        // Make probability model manipulation easier
-        transformProbModel();
-        
-        Team kickOffTeam = decideKickOff();
-        matchReport.setFirstHalfKickOff(kickOffTeam);
-        matchReport.setCurrentState(new State(kickOffTeam, State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
-        matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer());
-        matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
-        
-        int probModelPool = probModel.size();
-        
-        boolean currentStateFound = false;
-        State nextState = null;
-        
-        // First half
-        playTimeFrame(probModelPool, 0, halfDuration);
-        
-        logHighlight(-1, "End of first half");
-        
-        logHighlight(-1, matchReport.getScoreLine(this.homeTeam, this.awayTeam));
-        logHighlight(-1, "");
-        
-        // Second half
-        matchReport.setCurrentState(new State(toggleTeam(kickOffTeam), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
-        matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer());
-        matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
-        
-        playTimeFrame(probModelPool, halfDuration, 2 * halfDuration);
-        
-        // Construct the match report and save it to a file
-        
-        ArrayList<ReportObject> matchReport = this.matchReport.getReport();
-        
-        try {
-            
-            PrintWriter outputStream = new PrintWriter(new FileWriter(matchReportFilename));
-        
-            for (ReportObject currentEvent:matchReport) {
-                
-                String currentLine = "";
-                
-                State actionState = currentEvent.getActionState();
-                currentLine += actionState.toString() + "," + Constants.actionDescription[currentEvent.getAction()];
-                
-                if (currentEvent.isSpecial()) {
-                    currentLine += "-> " + Report.resultDescription[currentEvent.getSpecial()];
-                }
-                
-                outputStream.println(currentEvent.getActionState().getPlayer().getFamilyName());
-                outputStream.println(currentLine);
-            }
-            
-            outputStream.close();
-            
-        } catch (IOException ioe) {
-            ioe.printStackTrace();
-        }
-        
-        try {
-            
-            PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsFilename));
-            
-            Set<gameplay.Player> homeTeamLineup = homeTeam.getPlayers();
-            Set<gameplay.Player> awayTeamLineup = awayTeam.getPlayers();
-            
-            for (gameplay.Player currentPlayer:homeTeamLineup) {
-                
-                outputStream.println(currentPlayer.getFamilyName());
-                
-                outputStream.println("Gk Long Pass: " + currentPlayer.getStats().gkLongPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().gkLongPass.getTotalAttempts());
-                
-                outputStream.println("Long Pass: " + currentPlayer.getStats().longPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longPass.getTotalAttempts());
-                
-                outputStream.println("Forward Pass: " + currentPlayer.getStats().forwardPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().forwardPass.getTotalAttempts());
-                
-                outputStream.println("Flank Pass: " + currentPlayer.getStats().flankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().flankPass.getTotalAttempts());
-                
-                outputStream.println("Ball Control: " + currentPlayer.getStats().ballControl.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().ballControl.getTotalAttempts());
-                
-                outputStream.println("Dribbling: " + currentPlayer.getStats().dribbling.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().dribbling.getTotalAttempts());
-                
-                outputStream.println("Long Flank Pass: " + currentPlayer.getStats().longFlankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longFlankPass.getTotalAttempts());
-                
-                outputStream.println("Pass: " + currentPlayer.getStats().pass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().pass.getTotalAttempts());
-                
-                outputStream.println("Area Pass: " + currentPlayer.getStats().areaPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().areaPass.getTotalAttempts());
-                
-                outputStream.println("Run Ball: " + currentPlayer.getStats().runBall.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().runBall.getTotalAttempts());
-                
-                outputStream.println("Low Cross: " + currentPlayer.getStats().lowCross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().lowCross.getTotalAttempts());
-                
-                outputStream.println("Cross: " + currentPlayer.getStats().cross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().cross.getTotalAttempts());
-                
-                outputStream.println("Shots: " + currentPlayer.getStats().shots.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().shots.getTotalAttempts());
-                
-                outputStream.println("Headings: " + currentPlayer.getStats().headingsOnTarget.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().headingsOnTarget.getTotalAttempts());
-                
-                outputStream.println("Individual challenges: " + currentPlayer.getStats().personalChallenges.getOccurences());
-                outputStream.println("Interceptions: " + currentPlayer.getStats().interceptions.getOccurences());
-                outputStream.println("Saves: " + currentPlayer.getStats().saves.getOccurences());
-                outputStream.println("Concedings: " + currentPlayer.getStats().concedings.getOccurences());
-                outputStream.println();
-                
-             }
-            
-            for (gameplay.Player currentPlayer:awayTeamLineup) {
-                
-                outputStream.println(currentPlayer.getFamilyName());
-                
-                outputStream.println("Gk Long Pass: " + currentPlayer.getStats().gkLongPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().gkLongPass.getTotalAttempts());
-                
-                outputStream.println("Long Pass: " + currentPlayer.getStats().longPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longPass.getTotalAttempts());
-                
-                outputStream.println("Forward Pass: " + currentPlayer.getStats().forwardPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().forwardPass.getTotalAttempts());
-                
-                outputStream.println("Flank Pass: " + currentPlayer.getStats().flankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().flankPass.getTotalAttempts());
-                
-                outputStream.println("Ball Control: " + currentPlayer.getStats().ballControl.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().ballControl.getTotalAttempts());
-                
-                outputStream.println("Dribbling: " + currentPlayer.getStats().dribbling.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().dribbling.getTotalAttempts());
-                
-                outputStream.println("Long Flank Pass: " + currentPlayer.getStats().longFlankPass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().longFlankPass.getTotalAttempts());
-                
-                outputStream.println("Pass: " + currentPlayer.getStats().pass.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().pass.getTotalAttempts());
-                
-                outputStream.println("Area Pass: " + currentPlayer.getStats().areaPass.getSuccessfulAttempts() + "/" + 
-                        currentPlayer.getStats().areaPass.getTotalAttempts());
-                
-                outputStream.println("Run Ball: " + currentPlayer.getStats().runBall.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().runBall.getTotalAttempts());
-                
-                outputStream.println("Low Cross: " + currentPlayer.getStats().lowCross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().lowCross.getTotalAttempts());
-                
-                outputStream.println("Cross: " + currentPlayer.getStats().cross.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().cross.getTotalAttempts());
-                
-                outputStream.println("Shots: " + currentPlayer.getStats().shots.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().shots.getTotalAttempts());
-                
-                outputStream.println("Headings: " + currentPlayer.getStats().headingsOnTarget.getSuccessfulAttempts() + "/" +
-                        currentPlayer.getStats().headingsOnTarget.getTotalAttempts());
-                
-                outputStream.println("Individual challenges: " + currentPlayer.getStats().personalChallenges.getOccurences());
-                outputStream.println("Interceptions: " + currentPlayer.getStats().interceptions.getOccurences());
-                outputStream.println("Saves: " + currentPlayer.getStats().saves.getOccurences());
-                outputStream.println("Concedings: " + currentPlayer.getStats().concedings.getOccurences());
-                outputStream.println();
-                
-            }
-            
-            outputStream.close();
-            
-        } catch (IOException ioe) {
-            ioe.printStackTrace();
+    public Match(Team homeTeam, Team awayTeam, String probModelFilename, String matchReportFilename, String playerStatsFilename, 
+            String statsSummaryFilename) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.probModelFilename = probModelFilename;
+        
+        this.outputs.add(new ConsoleOutput());
+        this.outputs.add(new FileOutput(matchReportFilename, playerStatsFilename, statsSummaryFilename));
+    }
+    
+    /**
+     * Headless match constructor, used for simulating many matches on the same probability model. The match has no outputs, so no 
+     * highlights are printed and no files are written; its result is read from the team stats and the match report.
+     * @param homeTeam Home team object
+     * @param awayTeam Away team object
+     * @param probModelHandle The handle the probability model is acquired through at kick-off
+     */
+    public Match(Team homeTeam, Team awayTeam, ProbModelHandle probModelHandle) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.probModelFilename = probModelHandle.getFilename();
+        this.probModelHandle = probModelHandle;
+    }
+    
+    /**
+     * Plays the match loop starting from a certain time.
+     * 
+     * @param startTime The virtual time from which the match is resumed
+     * @return The outcome of the match at the time of its interruption
+     */
+    public Signal play(int startTime) {
+        
+        if (probModel == null) {
+            probModel = acquireProbModel();
         }
         
-        // Player stats summary
+        if (startTime < 2 * halfDuration) {
+            registerAppearances();
+        }
         
-        try {
-            
-            PrintWriter outputStream = new PrintWriter(new FileWriter(playerStatsSummFilename));
+        if (startTime == 0) { // Kick-off
+        
+            Team kickOffTeam = decideKickOff();
+            matchReport.setFirstHalfKickOff(kickOffTeam);
+            matchReport.setCurrentState(new State(kickOffTeam, State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
+            matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer(rnd));
+            matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
+        }
+        
+        boolean currentStateFound = false;
+        State nextState = null;
+        
+        // First half
+        if (startTime < halfDuration) {
             
-            Set<gameplay.Player> homeTeamLineup = homeTeam.getPlayers();
-            Set<gameplay.Player> awayTeamLineup = awayTeam.getPlayers();
+            return playTimeFrame(startTime, halfDuration);
             
-            for (gameplay.Player currentPlayer:homeTeamLineup) {
-                
-                outputStream.println(currentPlayer.getFamilyName());
-                
-                outputStream.println("Passes: " + currentPlayer.getStats().getAllPassesSucc() + "/" + 
-                        currentPlayer.getStats().getAllPassesTotal());
-                
-                outputStream.println("Personal challenges (attacking): " + currentPlayer.getStats().getAttPersonalChallengesSucc() + "/" +
-                        currentPlayer.getStats().getAttPersonalChallengesTotal());
-                
-                outputStream.println("Crosses: " + currentPlayer.getStats().getCrossesSucc() + "/" + 
-                        currentPlayer.getStats().getCrossesTotal());
-                
-                outputStream.println("Player runs: " + currentPlayer.getStats().getRunsSucc() + "/" +
-                        currentPlayer.getStats().getRunsTotal());
-                
-                outputStream.println("Personal challenges won (defending): " + currentPlayer.getStats().getDefChallengesWon());
-                
-                outputStream.println("Interceptions: " + currentPlayer.getStats().getInterceptions());
-                
-                outputStream.println("Saves: " + currentPlayer.getStats().getSaves());
-                
-                outputStream.println("Attempts at goal: " + currentPlayer.getStats().getAllShotsSucc() + "/" +
-                        currentPlayer.getStats().getAllShotsTotal());
-                
-                outputStream.println("Goals scored: " + currentPlayer.getStats().getGoals());
-                
-                outputStream.println("Penalties missed: " + currentPlayer.getStats().getPenaltiesMissed());
-                
-                outputStream.println("Penalties saved: " + currentPlayer.getStats().getPenaltiesSaved());
-                
-                outputStream.println();
-                
-             }
+        } else if (startTime == halfDuration) {
+        
+            fireEvent(MatchEvent.HALF_TIME, halfDuration, null, null, MatchEvent.NONE, MatchEvent.NONE);
+            logHighlight(-1, new Highlight(Highlight.END_OF_FIRST_HALF));
+        
+            logHighlight(-1, getScoreLine());
+            logHighlight(-1, new Highlight(Highlight.BLANK));
+        
+            // Second half
+            matchReport.setCurrentState(new State(toggleTeam(matchReport.getFirstHalfKickOff()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
+            matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer(rnd));
+            matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
+        
+            return playTimeFrame(halfDuration, 2 * halfDuration);
+        
+        } else if (startTime == 2 * halfDuration) { // end of match
+        
+            // Match summary
+            fireEvent(MatchEvent.FULL_TIME, 2 * halfDuration, null, null, MatchEvent.NONE, MatchEvent.NONE);
+            logHighlight(-1, new Highlight(Highlight.END_OF_MATCH));
+            logHighlight(-1, getScoreLine());
+            logHighlight(-1, new Highlight(Highlight.BLANK));
             
-            for (gameplay.Player currentPlayer:awayTeamLineup) {
-                
-                outputStream.println(currentPlayer.getFamilyName());
-                
-                outputStream.println("Passes: " + currentPlayer.getStats().getAllPassesSucc() + "/" + 
-                        currentPlayer.getStats().getAllPassesTotal());
-                
-                outputStream.println("Personal challenges (attacking): " + currentPlayer.getStats().getAttPersonalChallengesSucc() + "/" +
-                        currentPlayer.getStats().getAttPersonalChallengesTotal());
-                
-                outputStream.println("Crosses: " + currentPlayer.getStats().getCrossesSucc() + "/" + 
-                        currentPlayer.getStats().getCrossesTotal());
-                
-                outputStream.println("Player runs: " + currentPlayer.getStats().getRunsSucc() + "/" +
-                        currentPlayer.getStats().getRunsTotal());
-                
-                outputStream.println("Personal challenges won (defending): " + currentPlayer.getStats().getDefChallengesWon());
-                
-                outputStream.println("Interceptions: " + currentPlayer.getStats().getInterceptions());
-                
-                outputStream.println("Saves: " + currentPlayer.getStats().getSaves());
-                
-                outputStream.println("Attempts at goal: " + currentPlayer.getStats().getAllShotsSucc() + "/" +
-                        currentPlayer.getStats().getAllShotsTotal());
-                
-                outputStream.println("Goals scored: " + currentPlayer.getStats().getGoals());
-                
-                outputStream.println("Penalties missed: " + currentPlayer.getStats().getPenaltiesMissed());
-                
-                outputStream.println("Penalties saved: " + currentPlayer.getStats().getPenaltiesSaved());
-                
-                outputStream.println();
-                
+            for (MatchOutput output:outputs) {
+                output.fullTime(this);
             }
+        
+        } else if (startTime > halfDuration) {
             
-            outputStream.close();
+            return playTimeFrame(startTime, 2 * halfDuration);
             
-        } catch (IOException ioe) {
-            ioe.printStackTrace();
         }
         
-        // Match summary
-        logHighlight(-1, "End of game");
-        logHighlight(-1, this.matchReport.getScoreLine(this.homeTeam, this.awayTeam));
-        logHighlight(-1, "");
-        
-        System.out.println("Match events");
-        System.out.println("-------------");
-        System.out.println();
-        
-        System.out.println(homeTeam.getName());
-        printTeamSummary(homeTeam);
-        
-        System.out.println();
+        return null;
         
-        System.out.println(awayTeam.getName());
-        printTeamSummary(awayTeam);
+    }
+    
+    /**
+     * Plays the match from kick-off to full time headless: the outputs of the match are removed, so no highlights are printed and none of the 
+     * files of the final whistle are written. The result is read from the team stats and the match report afterwards. This is used for 
+     * simulating many matches in a batch.
+     */
+    public void simulate() {
         
-        System.out.println();
+        this.outputs.clear();
         
-        System.out.println("Stats");
-        System.out.println("------");
-        System.out.println();
+        Signal currentSignal = play(0);
         
-        int totalBallPossession = homeTeam.getStats().getPossessionCount() + awayTeam.getStats().getPossessionCount();
+        while (!(currentSignal instanceof EndOfMatch) && currentSignal != null) {
+            currentSignal = play(currentSignal.getTime() + 1);
+        }
         
-        System.out.println(homeTeam.getName());
-        printTeamStats(homeTeam, totalBallPossession);
+        if (currentSignal instanceof EndOfMatch) {
+            play(2 * halfDuration); // Final whistle
+        }
+    }
+    
+    /**
+     * 
+     * Starts and executes the match loop. During the match and in the end it outputs the relevant statistics and events. 
+     * This is used for simulating a match from start to end without any interruptions. 
+     * 
+     */
+    public void start() {
         
-        System.out.println();
+        probModel = acquireProbModel();
+        registerAppearances();
         
-        System.out.println(awayTeam.getName());
-        printTeamStats(awayTeam, totalBallPossession);
+        Team kickOffTeam = decideKickOff();
+        matchReport.setFirstHalfKickOff(kickOffTeam);
+        matchReport.setCurrentState(new State(kickOffTeam, State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
+        matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer(rnd));
+        matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
         
-        // Print individual player ratings
+        boolean currentStateFound = false;
+        State nextState = null;
         
-        System.out.println();
-        System.out.println("Player ratings");
-        System.out.println();
+        // First half
+        playTimeFrame(0, halfDuration);
         
-        Set<gameplay.Player> homeTeamLineup = homeTeam.getPlayers();
-        Set<gameplay.Player> awayTeamLineup = awayTeam.getPlayers();
+        fireEvent(MatchEvent.HALF_TIME, halfDuration, null, null, MatchEvent.NONE, MatchEvent.NONE);
+        logHighlight(-1, new Highlight(Highlight.END_OF_FIRST_HALF));
         
-        System.out.println(homeTeam.getName());
-        System.out.println();
+        logHighlight(-1, getScoreLine());
+        logHighlight(-1, new Highlight(Highlight.BLANK));
         
-        for (gameplay.Player currentPlayer:homeTeamLineup) {
-            System.out.println(currentPlayer.getFamilyName() + " : " + currentPlayer.getStats().getRating(homeTeam, currentPlayer));
-            System.out.println();
-        }
+        // Second half
+        matchReport.setCurrentState(new State(toggleTeam(kickOffTeam), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE));
+        matchReport.getCurrentState().setPlayer(matchReport.getCurrentState().getTeam().getAnyDefensivePlayer(rnd));
+        matchReport.getCurrentEvent().setActionState(matchReport.getCurrentState());
         
-        System.out.println();
+        playTimeFrame(halfDuration, 2 * halfDuration);
         
-        System.out.println(awayTeam.getName());
-        System.out.println();
+        // Match summary
+        fireEvent(MatchEvent.FULL_TIME, 2 * halfDuration, null, null, MatchEvent.NONE, MatchEvent.NONE);
+        logHighlight(-1, new Highlight(Highlight.END_OF_GAME));
+        logHighlight(-1, getScoreLine());
+        logHighlight(-1, new Highlight(Highlight.BLANK));
         
-        for (gameplay.Player currentPlayer:awayTeamLineup) {
-            System.out.println(currentPlayer.getFamilyName() + " : " + currentPlayer.getStats().getRating(awayTeam, currentPlayer));
-            System.out.println();
+        for (MatchOutput output:outputs) {
+            output.fullTime(this);
         }
-        
     }
 
     /**
      * Play match within a specific time frame
-     * @param probModelPool The number of "events" within the virtual match
      * @param timerStart The time frame start in virtual time
      * @param timerEnd The time frame end in virtual time
      * @return The outcome of the match when the time frame has ended or interrupted
      */
-    private Signal playTimeFrame(int probModelPool, int timerStart, int timerEnd) {
+    private Signal playTimeFrame(int timerStart, int timerEnd) {
         
         State nextState;
         
@@ -948,7 +653,7 @@ public class Match {
                 
                 tempUpdateTime = reportUpdateTime; // Get back to default value
                 
-                int totalBallInPlay = homeTeam.getStats().getPossessionCount() + awayTeam.getStats().getPossessionCount();
+                int totalBallInPlay = getStats(homeTeam).getPossessionCount() + getStats(awayTeam).getPossessionCount();
                 
                 int homeTeamPoss = getBallPossession(homeTeam, totalBallInPlay);
                 int awayTeamPoss = getBallPossession(awayTeam, totalBallInPlay);
@@ -958,33 +663,26 @@ public class Match {
                 
                 matchRewind.addSignal(ballPossessionUpdate);
                 
+                fireEvent(MatchEvent.POSSESSION_UPDATE, ballPossessionUpdate.getTime(), homeTeam, null, MatchEvent.NONE, homeTeamPoss);
+                fireEvent(MatchEvent.POSSESSION_UPDATE, ballPossessionUpdate.getTime(), awayTeam, null, MatchEvent.NONE, awayTeamPoss);
+                
                 return ballPossessionUpdate;
             }
         
             // Find current state
             nextState = null;
             
-            ArrayList<Integer> candidateStates = new ArrayList<Integer>();
-                
-            for (int checkState = 0; checkState < probModelPool; checkState++) {
-                
-                Instant currentInstant = matchRepresentation.get(checkState);
-                
-                if (matchCurrentState(currentInstant, matchReport.getCurrentState()) && 
-                        actionAllowed(currentInstant.Action, matchReport.getCurrentState().getPlayer().getPosition())) {
-                    candidateStates.add(checkState);
-                }
-            }
+            CandidateSet candidateStates = probModel.getCandidateInstants(matchReport.getCurrentState());
             
             int checkState = -1;
             
-            if (candidateStates.size() == 1) {
-                checkState = candidateStates.get(0);
+            if (candidateStates.rows.length == 1) {
+                checkState = candidateStates.rows[0];
             } else {
-                checkState = candidateStates.get(rnd.nextInt(candidateStates.size()));
+                checkState = candidateStates.select(rnd);
             }
             
-            nextState = processCurrentInstant(matchRepresentation.get(checkState));
+            nextState = processCurrentInstant(probModel.getInstant(checkState));
             
             matchReport.setCurrentState(nextState);
             
@@ -1018,35 +716,18 @@ public class Match {
     }
 
     /**
-     * Print highlight to System.out and append it in highlight structure to be included in match report
+     * Pass highlight to the outputs of the match and append it in highlight structure to be included in match report
      * @param time The virtual time that the highlight has taken place. It should be above zero to be included in match report to avoid redundancy there
-     * @param highlight The String representation of the highlight as it will be displayed
+     * @param highlight The highlight, rendered as text only by the outputs displaying it
      */
-    private void logHighlight(Integer time, String highlight) {
-        System.out.println(highlight);
+    private void logHighlight(int time, Highlight highlight) {
+        for (MatchOutput output:outputs) {
+            output.highlight(time, highlight);
+        }
         if (time > 0)
             matchReport.appendHighlight(time, highlight);
     }
     
-    /**
-     * Print team stats to System.out
-     * @param team The team object
-     * @param ballInPlay The match duration in virtual time
-     */
-    private static void printTeamStats(Team team, int ballInPlay) {
-        
-        double ballPossession = (double) team.getStats().getPossessionCount() / (double) ballInPlay;
-        ballPossession *= 100;
-        
-        System.out.println("Ball possession: " + new Double(Math.round(ballPossession)).intValue() + "%");
-        
-        System.out.println("Shots on target: " + team.getStats().getShotOnTarget());
-        System.out.println("Shots off target: " + team.getStats().getShotsOffTarget());
-        System.out.println("Corner kicks: " + team.getStats().getCornerKicks());
-        System.out.println("Offsides: " + team.getStats().getOffsides());
-        System.out.println("Free kicks: " + team.getStats().getFreeKicks());
-    }
-    
     /**
      * Calculate the ball possession of a team for a specific total "ball in play" virtual time. Special rounding is applied so that the total ball
      * possession of both teams does not exceed 100%
@@ -1060,15 +741,15 @@ public class Match {
         double oppBallPossession = 0;
         
         // Quick check if the team's possession is dominant
-        if (team.getStats().getPossessionCount() < (ballInPlay - team.getStats().getPossessionCount())) {
+        if (getStats(team).getPossessionCount() < (ballInPlay - getStats(team).getPossessionCount())) {
             dominant = false;
         }
         
-        double ballPossession = (double) team.getStats().getPossessionCount() / (double) ballInPlay;
+        double ballPossession = (double) getStats(team).getPossessionCount() / (double) ballInPlay;
         ballPossession *= 100;
         
         if (!dominant) {
-            oppBallPossession = (double) (ballInPlay - team.getStats().getPossessionCount()) / (double) ballInPlay;
+            oppBallPossession = (double) (ballInPlay - getStats(team).getPossessionCount()) / (double) ballInPlay;
             oppBallPossession *= 100;
         }
         
@@ -1087,20 +768,8 @@ public class Match {
     }
 
     /**
-     * Print team main events descriptions (goals and missed penalties) to System.out 
-     * @param team The team object
-     */
-    private static void printTeamSummary(Team team) {
-        for (Team.GoalDetails goalEvent:team.getMatchEvents().getGoalDetails()) {
-            System.out.println(goalEvent);
-        }
-        for (Team.MissedPenaltyDetails missedPenalty:team.getMatchEvents().getPenaltyDetails()) {
-            System.out.println(missedPenalty);
-        }
-    }
-    
-    /**
-     * Calculate the action result based on weighted outcomes
+     * Calculate the action result based on weighted outcomes. The weights depend on the players involved, so they are walked through
+     * rather than put in an alias table which would only be used once.
      * @param outcomes The weighted outcomes each corresponding to a specific action
      * @return The index of the "selected" outcome 
      */
@@ -1130,60 +799,11 @@ public class Match {
      */
     private Instant getMatchingCross(Instant initInstant, int selector) {
         
-        ArrayList<Instant> candidateInstants = new ArrayList<Instant>();
-        
-        boolean selCondition = false;
-        
-        for (Instant instant:matchRepresentation) {
-            
-            switch (selector) {
-            case OOConstants.OPPOSITION:
-                selCondition = (instant.outcome instanceof Opponent);
-                break;
-            case OOConstants.SUCC_CH:
-                selCondition =  ((instant.outcome instanceof Success) || (instant.outcome instanceof Challenge));
-                break;
-            case OOConstants.PASS_INTERCEPTION:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_PassInterception));
-                break;
-            case OOConstants.MAN_CHALLENGE_LOST:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_ManChallengeLost));
-                break;
-            case OOConstants.UNFORCED_POSSESSION_CHANGE:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_Normal));
-                break;
-            case OOConstants.GK_INTERCEPTION:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_Gk));
-                break;
-            case OOConstants.GOAL_OPPORTUNITY_CROSS:
-                selCondition = goalScoringOpportunity(initInstant);
-            } 
-            
-            if (instant.equals(initInstant) && selCondition) {
-                candidateInstants.add(instant);
-            }
-        }
-        
-        if (candidateInstants.size() == 0) {
-            
-            // System.out.println("Could not find matching cross: " + initInstant);
-            
-            if (selector == OOConstants.OPPOSITION || selector == OOConstants.SUCC_CH || selector == OOConstants.GOAL_OPPORTUNITY_CROSS) { // The most generic cases
-                return initInstant;
-            } else {
-                return getMatchingInstant(initInstant, OOConstants.OPPOSITION, true); // Specialised cases lead to opposition ball possession
-            }
+        if (selector == OOConstants.GOAL_OPPORTUNITY_CROSS && !goalScoringOpportunity(initInstant)) {
+            return initInstant;
         }
         
-        if (candidateInstants.size() == 1) {
-            return candidateInstants.get(0);
-        }
-        
-        return candidateInstants.get(rnd.nextInt(candidateInstants.size()));
+        return selectCandidate(initInstant, probModel.getMatchingCrosses(initInstant, selector));
         
     }
     
@@ -1196,72 +816,27 @@ public class Match {
      */
     private Instant getMatchingInstant(Instant initInstant, int selector, boolean pressed) {
         
-        ArrayList<Instant> candidateInstants = new ArrayList<Instant>();
-        ArrayList<Instant> paceInstants = new ArrayList<Instant>();
+        return selectCandidate(initInstant, probModel.getMatchingInstants(initInstant, selector, pressed));
         
-        boolean selCondition = false;
+    }
+    
+    /**
+     * Selects one of the candidate instants matching an instant
+     * @param initInstant The initial instant
+     * @param candidates The candidate instants
+     * @return The selected instant, or the initial instant if there are no candidates
+     */
+    private Instant selectCandidate(Instant initInstant, CandidateSet candidates) {
         
-        for (Instant instant:matchRepresentation) {
-            
-            switch (selector) {
-            case OOConstants.OPPOSITION:
-                selCondition = (instant.outcome instanceof Opponent);
-                break;
-            case OOConstants.SUCC_CH:
-                selCondition =  (((instant.outcome instanceof Success) || (instant.outcome instanceof Challenge)) && 
-                        !isResultFoul(instant.outcome.condition));
-                break;
-            case OOConstants.PASS_INTERCEPTION:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_PassInterception));
-                break;
-            case OOConstants.MAN_CHALLENGE_LOST:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_ManChallengeLost));
-                break;
-            case OOConstants.UNFORCED_POSSESSION_CHANGE:
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_Normal));
-                break;
-            case OOConstants.GK_INTERCEPTION:
-                // System.out.println("Gk interception");
-                selCondition = ((instant.outcome instanceof Opponent) && (
-                        ((Opponent) instant.outcome).possessionChange == Constants.BPC_Gk));
-                break;
-            }
-            
-            if (instant.equals(initInstant) && selCondition && pressureMatched(instant, pressed)) {
-                candidateInstants.add(instant);
-            }
-            
-            if (instant.equals(initInstant) && selCondition) {
-                paceInstants.add(instant);
-            }
+        if (candidates.isEmpty()) {
+            return initInstant;
         }
         
-        if (candidateInstants.size() == 0) {
-            
-            // System.out.println("Could not find matching instant: " + initInstant);
-            
-            if (paceInstants.size() > 0) {
-                // System.out.println("Excluding pressure");
-                return paceInstants.get(rnd.nextInt(paceInstants.size()));
-            }
-            
-            if (selector == OOConstants.OPPOSITION || selector == OOConstants.SUCC_CH) { // The most generic cases
-                // System.out.println("Generic");
-                return initInstant;
-            } else {
-                // System.out.println("Opposition");
-                return getMatchingInstant(initInstant, OOConstants.OPPOSITION, pressed); // Specialised cases lead to opposition ball possession
-            }
-        } 
-        
-        if (candidateInstants.size() == 1) {
-            return candidateInstants.get(0);
+        if (candidates.rows.length == 1 && candidates.matched) {
+            return probModel.getInstant(candidates.rows[0]);
         }
         
-        return candidateInstants.get(rnd.nextInt(candidateInstants.size()));
+        return probModel.getInstant(candidates.select(rnd));
         
     }
     
@@ -1277,11 +852,13 @@ public class Match {
         // System.out.println("Processing instant: " + instant);
         
         // Keep track of ball possession
-        matchReport.getCurrentState().getTeam().getStats().addPossession();
+        getStats(matchReport.getCurrentState().getTeam()).addPossession();
                 
         if (matchReport.getCurrentState().getX().equals(State.X.CORNER_KICK)) {
-            matchReport.getCurrentState().getTeam().getStats().addCornerKick();
+            getStats(matchReport.getCurrentState().getTeam()).addCornerKick();
             matchRewind.addSignal(new CornerKick(matchReport.getTimer(), matchReport.getCurrentState().getTeam().getName()));
+            fireEvent(MatchEvent.CORNER_KICK, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), matchReport.getCurrentState().getPlayer(), 
+                    MatchEvent.NONE, MatchEvent.NONE);
         }
         
         boolean pressed = false;
@@ -1290,14 +867,14 @@ public class Match {
         double oppPace = 0;
         
         if (matchReport.getCurrentState().getY() == State.Y.DEFENCE) {
-            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.MIDFIELDER, "Pace");
-            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.MIDFIELDER, "Pace");
+            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.MIDFIELDER, PlayerAttributes.PACE);
+            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.MIDFIELDER, PlayerAttributes.PACE);
         } else if (matchReport.getCurrentState().getY() == State.Y.CENTRE) {
-            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.MIDFIELDER, "Pace");
-            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.MIDFIELDER, "Pace");
+            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.MIDFIELDER, PlayerAttributes.PACE);
+            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.MIDFIELDER, PlayerAttributes.PACE);
         } else if (matchReport.getCurrentState().getY() == State.Y.ATTACK) {
-            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.FORWARD, "Pace");
-            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, "Pace");
+            ownPace = matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.FORWARD, PlayerAttributes.PACE);
+            oppPace = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, PlayerAttributes.PACE);
         }
         
         double total = ownPace + oppPace;
@@ -1327,9 +904,9 @@ public class Match {
             
             if (foulState != null)  {
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().pass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().pass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.PASS, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1342,7 +919,7 @@ public class Match {
             switch(instant.Y) {
             case Constants.DEFENCE:
                
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 currentTarget = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentPassing *= currentTarget;
@@ -1350,7 +927,7 @@ public class Match {
                 break;
             case Constants.CENTRE:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 currentTarget = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= currentTarget;
@@ -1358,7 +935,7 @@ public class Match {
                 break;
             case Constants.ATTACK:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 currentTarget = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= currentTarget;
@@ -1372,13 +949,13 @@ public class Match {
             
             switch(instant.Y) {
             case Constants.DEFENCE:
-                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ZonalMarking");
+                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.ZONAL_MARKING);
                 break;
             case Constants.CENTRE:
-                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ZonalMarking");
+                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.ZONAL_MARKING);
                 break;
             case Constants.ATTACK:
-                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ZonalMarking");
+                currentInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
                 break;
             default:
                 currentInterception = 1;
@@ -1388,13 +965,13 @@ public class Match {
             
             switch(instant.Y) {
             case Constants.DEFENCE:
-                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 break;
             case Constants.CENTRE:
-                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 break;
             case Constants.ATTACK:
-                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");
+                currentMMLost = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);
                 break;
             default:
                 currentMMLost = 1;
@@ -1412,29 +989,29 @@ public class Match {
             switch(passOutcome) {
             case 0: // success
                 // System.out.println("Successful Pass");
-                matchReport.getCurrentState().getPlayer().getStats().pass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
             case 1:
                 // System.out.println("Pass Interception");
-                matchReport.getCurrentState().getPlayer().getStats().pass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.PASS, matchReport.getTimer());
                 
                 State nextIntState = 
                     simulatePossessionChangeCausal(instant, Constants.BPC_PassInterception, OOConstants.PASS_INTERCEPTION, pressed);
                 
                 if (nextIntState.getTeam() != matchReport.getCurrentState().getTeam()) {
-                    nextIntState.getPlayer().getStats().interceptions.addOccurence(matchReport.getTimer());
+                    getStats(nextIntState.getPlayer()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 }
                 
                 return nextIntState;
             case 2:
                 // System.out.println("Man marking Pass");
-                matchReport.getCurrentState().getPlayer().getStats().pass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.PASS, matchReport.getTimer());
                 
                 State nextChState = 
                     simulatePossessionChangeCausal(instant, Constants.BPC_ManChallengeLost, OOConstants.MAN_CHALLENGE_LOST, pressed);
                 
                 if (nextChState.getTeam() != matchReport.getCurrentState().getTeam()) {
-                    nextChState.getPlayer().getStats().personalChallenges.addOccurence(matchReport.getTimer());
+                    getStats(nextChState.getPlayer()).addOccurence(StatCategories.PERSONAL_CHALLENGES, matchReport.getTimer());
                 }
                 
                 return nextChState;
@@ -1445,14 +1022,14 @@ public class Match {
             State foulState = checkFoul(instant);
             if (foulState != null) {
                 if (foulState.getTeam() == matchReport.getCurrentState().getTeam()) {
-                    matchReport.getCurrentState().getTeam().getGK().getStats().gkLongPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getTeam().getGK()).registerSuccess(StatCategories.GK_LONG_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getTeam().getGK().getStats().gkLongPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getTeam().getGK()).registerFailure(StatCategories.GK_LONG_PASS, matchReport.getTimer());
                 }
                 return foulState;
             }
             
-            double currentPassing = matchReport.getCurrentState().getTeam().getGK().getSkill("Passing");
+            double currentPassing = matchReport.getCurrentState().getTeam().getGK().getSkill(PlayerAttributes.PASSING);
             
             double successPerc = RealWorldMapping.SUCC_GkLongPass;
             
@@ -1463,12 +1040,12 @@ public class Match {
             switch (gkLongPassOutcome) {
             case 0:
                 // System.out.println("Gk Long Pass Success: " + matchReport.getCurrentState().getTeam().getGK().getFamilyName());
-                matchReport.getCurrentState().getTeam().getGK().getStats().gkLongPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getTeam().getGK()).registerSuccess(StatCategories.GK_LONG_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
                 // System.out.println("Gk Long Pass Failure: " + matchReport.getCurrentState().getTeam().getGK().getFamilyName());
-                matchReport.getCurrentState().getTeam().getGK().getStats().gkLongPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getTeam().getGK()).registerFailure(StatCategories.GK_LONG_PASS, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);
                 
             }
@@ -1479,9 +1056,9 @@ public class Match {
             if (foulState != null)  {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().longPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.LONG_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().longPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LONG_PASS, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1493,7 +1070,7 @@ public class Match {
             switch(instant.Y) {
             case Constants.DEFENCE:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentPassing *= tacticsFilter;
@@ -1501,7 +1078,7 @@ public class Match {
                 break;
             case Constants.CENTRE:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= tacticsFilter;
@@ -1509,7 +1086,7 @@ public class Match {
                 break;
             case Constants.ATTACK:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= tacticsFilter;
@@ -1527,11 +1104,11 @@ public class Match {
             
             switch (longPassOutcome) {
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().longPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.LONG_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
-                matchReport.getCurrentState().getPlayer().getStats().longPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LONG_PASS, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);
             }
             
@@ -1542,9 +1119,9 @@ public class Match {
             State foulState = checkFoul(instant);
             if (foulState != null) {
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 }
                 return foulState;
             }
@@ -1563,7 +1140,7 @@ public class Match {
             switch(instant.Y) {
             case Constants.DEFENCE:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentPassing *= tacticsFilter;
@@ -1573,37 +1150,37 @@ public class Match {
                 currentInterception = 
                     RealWorldMapping.ForwardPassInterception + (RealWorldMapping.ForwardPassGkCentre - RealWorldMapping.ForwardPassGk) / 2;
                 
-                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ZonalMarking");
+                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.ZONAL_MARKING);
                 
                 currentMarking = RealWorldMapping.ForwardPassMarking + (RealWorldMapping.ForwardPassGkCentre - RealWorldMapping.ForwardPassGk) / 2;
                 
-                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 
                 break;
             case Constants.CENTRE:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= tacticsFilter;
                 
                 currentGk = RealWorldMapping.ForwardPassGkCentre;
                 
-                defGk = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, "RushingOut");
+                defGk = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, PlayerAttributes.RUSHING_OUT);
                 
                 currentInterception = RealWorldMapping.ForwardPassInterception + 
                     (RealWorldMapping.ForwardPassGk - RealWorldMapping.ForwardPassGkCentre) / 2;
                 
-                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ZonalMarking");
+                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
                 
                 currentMarking = RealWorldMapping.ForwardPassMarking + (RealWorldMapping.ForwardPassGk - RealWorldMapping.ForwardPassGkCentre) / 2;
                 
-                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");
+                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);
                 
                 break;
             case Constants.ATTACK:
                 
-                currentPassing = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentPassing = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentPassing *= tacticsFilter;
@@ -1615,9 +1192,9 @@ public class Match {
                 
                 currentMarking = RealWorldMapping.ForwardPassMarking + (RealWorldMapping.ForwardPassGkCentre - RealWorldMapping.ForwardPassGk) / 2;
                 
-                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ZonalMarking");
+                defInterception = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
                 
-                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");
+                defMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);
                 
                 break;
                 default:
@@ -1634,29 +1211,29 @@ public class Match {
             switch (forwardPassOutcome) {
             case 0:
                 // System.out.println("Forward pass success");
-                matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
                 // System.out.println("Unforced forward pass to opposition");
-                matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Normal, OOConstants.UNFORCED_POSSESSION_CHANGE, pressed);
                 
             case 2:
                 // System.out.println("Ball goes to Gk from forward pass: " + toggleTeam(matchReport.getCurrentState().getTeam()).getGK());
-                matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerFailure(matchReport.getTimer());
-                toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().interceptions.addOccurence(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FORWARD_PASS, matchReport.getTimer());
+                getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Gk, OOConstants.GK_INTERCEPTION, pressed);
                 
             case 3:
                 
-                matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 
                 State nextState = simulatePossessionChangeCausal(instant, Constants.BPC_PassInterception, OOConstants.PASS_INTERCEPTION, pressed);
                 
                 // Verify that the ball went to the other team
                 if (matchReport.getCurrentState().getTeam() != nextState.getTeam()) {
-                    nextState.getPlayer().getStats().interceptions.addOccurence(matchReport.getTimer());
+                    getStats(nextState.getPlayer()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 }
                 
                 return nextState;
@@ -1664,12 +1241,12 @@ public class Match {
             case 4:
                 // System.out.println("Forward pass challenge");
                 
-                matchReport.getCurrentState().getPlayer().getStats().forwardPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FORWARD_PASS, matchReport.getTimer());
                 
                 State nextChState = simulatePossessionChangeCausal(instant, Constants.BPC_ManChallengeLost, OOConstants.MAN_CHALLENGE_LOST, pressed);
                 
                 if (matchReport.getCurrentState().getTeam() != nextChState.getTeam()) {
-                    nextChState.getPlayer().getStats().personalChallenges.addOccurence(matchReport.getTimer());
+                    getStats(nextChState.getPlayer()).addOccurence(StatCategories.PERSONAL_CHALLENGES, matchReport.getTimer());
                 }
                 
                 return nextChState;
@@ -1732,9 +1309,9 @@ public class Match {
             if (foulState != null) {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().flankPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.FLANK_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().flankPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FLANK_PASS, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1746,7 +1323,7 @@ public class Match {
             switch (instant.Y) {
             case Constants.DEFENCE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = 
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.DEFENDER) * RealWorldMapping.FlankPass_D2D +
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER) * RealWorldMapping.FlankPass_D2C;
@@ -1756,7 +1333,7 @@ public class Match {
                 break;
             case Constants.CENTRE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = 
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER) * RealWorldMapping.FlankPass_C2C +
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD) * RealWorldMapping.FlankPass_C2A;
@@ -1766,7 +1343,7 @@ public class Match {
                 break;
             case Constants.ATTACK:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentSkill *= tacticsFilter;
@@ -1782,11 +1359,11 @@ public class Match {
             
             switch (flankPassOutcome) {
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().flankPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.FLANK_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
-                matchReport.getCurrentState().getPlayer().getStats().flankPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.FLANK_PASS, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);
                 
             }
@@ -1797,9 +1374,9 @@ public class Match {
             if (foulState != null) {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().runBall.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.RUN_BALL, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().runBall.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.RUN_BALL, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1812,34 +1389,34 @@ public class Match {
             switch (instant.Y) {
             case Constants.DEFENCE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
                 tacticsFilter = 
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.DEFENDER) * RealWorldMapping.RunBall_D2D + 
                     matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER) * RealWorldMapping.RunBall_D2C;
                 
                 currentSkill *= tacticsFilter;
                 
-                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 
                 break;
             case Constants.CENTRE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentSkill *= tacticsFilter;
                 
-                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 
                 break;
             case Constants.ATTACK:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentSkill *= tacticsFilter;
                 
-                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");   
+                defManMarking = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);   
             }
             
             double successPerc = RealWorldMapping.SUCC_RunBall;
@@ -1850,11 +1427,11 @@ public class Match {
             
             switch (runBallOutcome) { // Since only one opponent outcome is possible, we don't need to specify ball possession change
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().runBall.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.RUN_BALL, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
-                matchReport.getCurrentState().getPlayer().getStats().runBall.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.RUN_BALL, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);
             }      
             
@@ -1869,7 +1446,7 @@ public class Match {
             switch (instant.Y) {
             case Constants.DEFENCE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("ThrowIn");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.THROW_IN);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentSkill *= tacticsFilter;
@@ -1877,7 +1454,7 @@ public class Match {
                 break;
             case Constants.CENTRE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("ThrowIn");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.THROW_IN);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentSkill *= tacticsFilter;
@@ -1885,7 +1462,7 @@ public class Match {
                 break;
             case Constants.ATTACK:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("ThrowIn");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.THROW_IN);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentSkill *= tacticsFilter;
@@ -1912,9 +1489,9 @@ public class Match {
             if (foulState != null)  {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().dribbling.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.DRIBBLING, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().dribbling.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.DRIBBLING, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1926,12 +1503,12 @@ public class Match {
             switch (instant.Y) {
             case Constants.DEFENCE:
             case Constants.CENTRE:
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Dribbling");
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.DRIBBLING);
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 break;
             case Constants.ATTACK:
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Dribbling");
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.DRIBBLING);
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);
                 break;
             }
             
@@ -1944,26 +1521,26 @@ public class Match {
             
             switch (dribblingOutcome) {
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().dribbling.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.DRIBBLING, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
                 
                 // System.out.println("Man marking from Dribbling");
                 
-                matchReport.getCurrentState().getPlayer().getStats().dribbling.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.DRIBBLING, matchReport.getTimer());
                 
                 State nextState = simulatePossessionChangeCausal(instant, Constants.BPC_ManChallengeLost, OOConstants.MAN_CHALLENGE_LOST, pressed);
                 
                 if (nextState.getTeam() != matchReport.getCurrentState().getTeam()) {
-                    nextState.getPlayer().getStats().personalChallenges.addOccurence(matchReport.getTimer());
+                    getStats(nextState.getPlayer()).addOccurence(StatCategories.PERSONAL_CHALLENGES, matchReport.getTimer());
                 }
                 
                 return nextState;
                 
             case 2:
                 // System.out.println("Opposition from Dribbling");
-                matchReport.getCurrentState().getPlayer().getStats().dribbling.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.DRIBBLING, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Normal, OOConstants.UNFORCED_POSSESSION_CHANGE, pressed);
             }
             
@@ -1973,9 +1550,9 @@ public class Match {
             if (foulState != null)  {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().longFlankPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.LONG_FLANK_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().longFlankPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LONG_FLANK_PASS, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -1989,30 +1566,30 @@ public class Match {
             switch (instant.Y) {
             case Constants.DEFENCE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.MIDFIELDER);
                 
                 currentSkill *= tacticsFilter;
                 
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ZonalMarking");
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.ZONAL_MARKING);
                 
                 break;
             case Constants.CENTRE:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
                 currentSkill *= tacticsFilter;
                 
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ZonalMarking");
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
                 
                 break;
             case Constants.ATTACK:
                 
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
                 tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
                 
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ZonalMarking");
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
                 
                 break;
             }
@@ -2026,24 +1603,24 @@ public class Match {
             
             switch (longFlankPassOutcome) {
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().longFlankPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.LONG_FLANK_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
                 // System.out.println("Long flank pass interception");
-                matchReport.getCurrentState().getPlayer().getStats().longFlankPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LONG_FLANK_PASS, matchReport.getTimer());
                 
                 State nextState = simulatePossessionChangeCausal(instant, Constants.BPC_PassInterception, OOConstants.PASS_INTERCEPTION, pressed);
                 
                 if (nextState.getTeam() != matchReport.getCurrentState().getTeam()) {
-                    nextState.getPlayer().getStats().interceptions.addOccurence(matchReport.getTimer());
+                    getStats(nextState.getPlayer()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 }
                 
                 return nextState;
                 
             case 2:
                 // System.out.println("Long flank pass opposition");
-                matchReport.getCurrentState().getPlayer().getStats().longFlankPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LONG_FLANK_PASS, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Normal, OOConstants.UNFORCED_POSSESSION_CHANGE, pressed);
                 
             }
@@ -2054,20 +1631,20 @@ public class Match {
             if (foulState != null)  {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().areaPass.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.AREA_PASS, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().areaPass.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.AREA_PASS, matchReport.getTimer());
                 }
                 
                 return foulState;
             }
             
-            double currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Passing");
+            double currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.PASSING);
             double tacticsFilter = matchReport.getCurrentState().getTeam().getTargetStrength(Constants.FORWARD);
             
             currentSkill *= tacticsFilter;
             
-            double gkSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, "RushingOut");
+            double gkSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, PlayerAttributes.RUSHING_OUT);
             
             double successPerc = RealWorldMapping.SUCC_AreaPass;
             
@@ -2078,18 +1655,18 @@ public class Match {
             
             switch (areaPassOutcome) {
             case 0:
-                matchReport.getCurrentState().getPlayer().getStats().areaPass.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.AREA_PASS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
                 
             case 1:
                 // System.out.println("Area pass to gk: " + toggleTeam(matchReport.getCurrentState().getTeam()).getGK());
-                matchReport.getCurrentState().getPlayer().getStats().areaPass.registerFailure(matchReport.getTimer());
-                toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().interceptions.addOccurence(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.AREA_PASS, matchReport.getTimer());
+                getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Gk, OOConstants.GK_INTERCEPTION, pressed);
                 
             case 2:
                 // System.out.println("Area pass to opposition");
-                matchReport.getCurrentState().getPlayer().getStats().areaPass.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.AREA_PASS, matchReport.getTimer());
                 return simulatePossessionChangeCausal(instant, Constants.BPC_Normal, OOConstants.UNFORCED_POSSESSION_CHANGE, pressed);
                 
             } 
@@ -2102,9 +1679,9 @@ public class Match {
             if (foulState != null)  {
                 
                 if (matchReport.getCurrentState().getTeam() == foulState.getTeam()) {
-                    matchReport.getCurrentState().getPlayer().getStats().ballControl.registerSuccess(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.BALL_CONTROL, matchReport.getTimer());
                 } else {
-                    matchReport.getCurrentState().getPlayer().getStats().ballControl.registerFailure(matchReport.getTimer());
+                    getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.BALL_CONTROL, matchReport.getTimer());
                 }
                 
                 return foulState;
@@ -2115,16 +1692,16 @@ public class Match {
             
             switch (instant.Y) {
             case Constants.DEFENCE:
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.FORWARD, "ManMarking");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.FORWARD, PlayerAttributes.MAN_MARKING);
                 break;
             case Constants.CENTRE:
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, "ManMarking");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.MIDFIELDER, PlayerAttributes.MAN_MARKING);
                 break;
             case Constants.ATTACK:
-                currentSkill = matchReport.getCurrentState().getPlayer().getSkill("BallControl");
-                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, "ManMarking");
+                currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.BALL_CONTROL);
+                defSkill = applyTacticsFilter(toggleTeam(matchReport.getCurrentState().getTeam()), Constants.DEFENDER, PlayerAttributes.MAN_MARKING);
                 break;
             }
             
@@ -2137,11 +1714,11 @@ public class Match {
             switch (ballControlOutcome) {
             case 0:
                 // System.out.println("Success");
-                matchReport.getCurrentState().getPlayer().getStats().ballControl.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.BALL_CONTROL, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
             case 1:
                 // System.out.println("Opponent");
-                matchReport.getCurrentState().getPlayer().getStats().ballControl.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.BALL_CONTROL, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);                
             }
             
@@ -2149,7 +1726,7 @@ public class Match {
             
             // System.out.println("Cross");
             
-            double crossingSkill = matchReport.getCurrentState().getPlayer().getSkill("Crossing");
+            double crossingSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.CROSSING);
             double footSkill = -1;
             double currentSkill = 0;
             
@@ -2157,10 +1734,10 @@ public class Match {
             
             if (currentSide == OOConstants.LEFT_SIDE) {
                 // System.out.println("Crossing from left side");
-                footSkill = matchReport.getCurrentState().getPlayer().getSkill("LeftFoot");
+                footSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.LEFT_FOOT);
             } else if (currentSide == OOConstants.RIGHT_SIDE) {
                 // System.out.println("Crossing from right side");
-                footSkill = matchReport.getCurrentState().getPlayer().getSkill("RightFoot");
+                footSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.RIGHT_FOOT);
             }
             
             if (footSkill > 0) {
@@ -2169,9 +1746,9 @@ public class Match {
                 currentSkill = crossingSkill;
             }
             
-            double goalSkill = (currentSkill + matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.FORWARD, "Heading")) / 2;
-            double gkSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, "RushingOut");
-            double defSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, "Heading");
+            double goalSkill = (currentSkill + matchReport.getCurrentState().getTeam().getAverageFromAttribute(Constants.FORWARD, PlayerAttributes.HEADING)) / 2;
+            double gkSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, PlayerAttributes.RUSHING_OUT);
+            double defSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, PlayerAttributes.HEADING);
             
             double successPerc = RealWorldMapping.SUCC_Cross;
             double goalPerc = RealWorldMapping.CrossGoalScoring;
@@ -2184,7 +1761,7 @@ public class Match {
             switch (crossOutcome) {
             case 0:
                 // System.out.println("Successful cross");
-                matchReport.getCurrentState().getPlayer().getStats().cross.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.CROSS, matchReport.getTimer());
                 if (!goalScoringOpportunity(instant) && (instant.outcome instanceof Success || instant.outcome instanceof Challenge)){
                     return processCross(instant);
                 } else {
@@ -2192,7 +1769,7 @@ public class Match {
                 }
             case 1:
                 // System.out.println("Goal scoring opportunity from cross");
-                matchReport.getCurrentState().getPlayer().getStats().cross.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.CROSS, matchReport.getTimer());
                 if (goalScoringOpportunity(instant)) {
                     return processCross(instant);
                 } else {
@@ -2200,8 +1777,8 @@ public class Match {
                 }
             case 2:
                 // System.out.println("Ball to Gk from cross: " + toggleTeam(matchReport.getCurrentState().getTeam()).getGK());
-                matchReport.getCurrentState().getPlayer().getStats().cross.registerFailure(matchReport.getTimer());
-                toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().interceptions.addOccurence(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.CROSS, matchReport.getTimer());
+                getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.INTERCEPTIONS, matchReport.getTimer());
                 if (instant.outcome instanceof Opponent && ((Opponent) instant.outcome).possessionChange == Constants.BPC_Gk) {
                     return processCross(instant);
                 } else {
@@ -2209,7 +1786,7 @@ public class Match {
                 }
             case 3:
                 // System.out.println("Opposition from cross");
-                matchReport.getCurrentState().getPlayer().getStats().cross.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.CROSS, matchReport.getTimer());
                 if (instant.outcome instanceof Opponent && ((Opponent) instant.outcome).possessionChange == Constants.BPC_Normal) {
                     return processCross(instant);
                 } else {
@@ -2221,8 +1798,8 @@ public class Match {
             
             // System.out.println("Low cross");
             
-            double currentSkill = matchReport.getCurrentState().getPlayer().getSkill("Crossing");
-            double defSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, "ZonalMarking");
+            double currentSkill = matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.CROSSING);
+            double defSkill = toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.DEFENDER, PlayerAttributes.ZONAL_MARKING);
             
             double successPerc = RealWorldMapping.SUCC_LowCross;
             
@@ -2233,11 +1810,11 @@ public class Match {
             switch (lowCrossOutcome) {
             case 0:
                 // System.out.println("Successful low cross");
-                matchReport.getCurrentState().getPlayer().getStats().lowCross.registerSuccess(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.LOW_CROSS, matchReport.getTimer());
                 return simulateSuccess(instant, pressed);
             case 1:
                 // System.out.println("Unsuccesful low cross");
-                matchReport.getCurrentState().getPlayer().getStats().lowCross.registerFailure(matchReport.getTimer());
+                getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.LOW_CROSS, matchReport.getTimer());
                 return simulateBallPossessionChange(instant, pressed);
                 
             }
@@ -2253,7 +1830,7 @@ public class Match {
             }
             */
             
-            matchReport.getCurrentState().getPlayer().getStats().cross.registerSuccess(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.CROSS, matchReport.getTimer());
             
             return processCross(instant);
             
@@ -2278,7 +1855,7 @@ public class Match {
      * @param attribute The attribute on which the collective ability calculation is based: e.g. man or zonal marking
      * @return A factor used in the calculation of the outcome regarding the involved players (by position) and the relevant attribute
      */
-    private double applyTacticsFilter(Team team, int position, String attribute) {
+    private double applyTacticsFilter(Team team, int position, PlayerAttribute attribute) {
         
         double currentDefence;
         double currentSkill;
@@ -2374,13 +1951,13 @@ public class Match {
     private State assessGSOpportunity(Instant instant) {
         
         double finishing = matchReport.getCurrentState().getTeam().getFinishing() * 
-            RealWorldMapping.avgSkill / matchReport.getCurrentState().getPlayer().getSkill("Shooting");
+            RealWorldMapping.avgSkill / matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.SHOOTING);
         
         double shooting = matchReport.getCurrentState().getTeam().getShooting() * 
-            RealWorldMapping.avgSkill / matchReport.getCurrentState().getPlayer().getSkill("Shooting");
+            RealWorldMapping.avgSkill / matchReport.getCurrentState().getPlayer().getSkill(PlayerAttributes.SHOOTING);
         
         double goalkeeping = 
-            RealWorldMapping.avgSkill / toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, "Handling");
+            RealWorldMapping.avgSkill / toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, PlayerAttributes.HANDLING);
         
         // double [] abilityArray = {1d, matchReport.getCurrentState().getTeam().getFinishing(), 
         //         matchReport.getCurrentState().getTeam().getShooting()};
@@ -2398,20 +1975,20 @@ public class Match {
         switch(outcome) {
         case RealWorldMapping.GOAL:
             
-            matchReport.getCurrentState().getPlayer().getStats().shots.registerSuccess(matchReport.getTimer());
-            toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().concedings.addOccurence(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.SHOTS, matchReport.getTimer());
+            getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.CONCEDINGS, matchReport.getTimer());
             
             return processGoal(instant.Action, false);
             
         case RealWorldMapping.SHOT_ON:
             
-            matchReport.getCurrentState().getPlayer().getStats().shots.registerFailure(matchReport.getTimer());
-            toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().saves.addOccurence(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.SHOTS, matchReport.getTimer());
+            getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.SAVES, matchReport.getTimer());
             
             return processShotOn(instant.Action, false);
             
         case RealWorldMapping.SHOT_OFF:
-            matchReport.getCurrentState().getPlayer().getStats().shots.registerFailure(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.SHOTS, matchReport.getTimer());
             return processShotOff(instant.Action, false);
         }
         return null;
@@ -2450,34 +2027,34 @@ public class Match {
         gameplay.Player airGoalScorer;
         
         do {
-            airGoalScorer = matchReport.getCurrentState().getTeam().getGoalScorer();
+            airGoalScorer = matchReport.getCurrentState().getTeam().getGoalScorer(rnd);
         } while (airGoalScorer == matchReport.getCurrentState().getPlayer());
         
         matchReport.getCurrentState().setPlayer(airGoalScorer);
         
         double headerOn = matchReport.getCurrentState().getTeam().getFinishing() * 
-            RealWorldMapping.avgSkill / airGoalScorer.getSkill("Heading");
+            RealWorldMapping.avgSkill / airGoalScorer.getSkill(PlayerAttributes.HEADING);
         
         double headerOff = matchReport.getCurrentState().getTeam().getShooting() *
-            RealWorldMapping.avgSkill / airGoalScorer.getSkill("Heading");
+            RealWorldMapping.avgSkill / airGoalScorer.getSkill(PlayerAttributes.HEADING);
         
         double goalkeeping = 
-            RealWorldMapping.avgSkill / toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, "Handling");
+            RealWorldMapping.avgSkill / toggleTeam(matchReport.getCurrentState().getTeam()).getAverageFromAttribute(Constants.GK, PlayerAttributes.HANDLING);
         
         double [] abilityArray = {goalkeeping, headerOn, headerOff};
         
         int outcome = getOutcome(RealWorldMapping.CrossStats, abilityArray);
         switch(outcome) {
         case RealWorldMapping.GOAL:
-            matchReport.getCurrentState().getPlayer().getStats().headingsOnTarget.registerSuccess(matchReport.getTimer());
-            toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().concedings.addOccurence(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerSuccess(StatCategories.HEADINGS, matchReport.getTimer());
+            getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.CONCEDINGS, matchReport.getTimer());
             return processGoal(instant.Action, true);
         case RealWorldMapping.SHOT_ON:
-            matchReport.getCurrentState().getPlayer().getStats().headingsOnTarget.registerFailure(matchReport.getTimer());
-            toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().saves.addOccurence(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.HEADINGS, matchReport.getTimer());
+            getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addOccurence(StatCategories.SAVES, matchReport.getTimer());
             return processShotOn(instant.Action, true);
         case RealWorldMapping.SHOT_OFF:
-            matchReport.getCurrentState().getPlayer().getStats().headingsOnTarget.registerFailure(matchReport.getTimer());
+            getStats(matchReport.getCurrentState().getPlayer()).registerFailure(StatCategories.HEADINGS, matchReport.getTimer());
             return processShotOff(instant.Action, true);
         }
         return null;
@@ -2543,24 +2120,27 @@ public class Match {
             reportTeam = matchReport.getCurrentState().getTeam();
         }
         
-        reportTeam.getStats().addFreeKick();
+        getStats(reportTeam).addFreeKick();
         matchReport.getCurrentEvent().setSpecial(Report.Foul);
         
         matchRewind.addSignal(new FreeKick(matchReport.getTimer(), reportTeam.getName()));
+        fireEvent(MatchEvent.FREE_KICK, matchReport.getTimer(), reportTeam, null, MatchEvent.NONE, MatchEvent.NONE);
         
         // Simulate foul earned
+        // The instant belongs to the shared probability model, so the free kick state is simulated on a copy of it
+        
+        byte freeKickX;
         
         if (instant.X != Constants.THROW_IN)
-            instant.outcomeState.X = instant.X;
+            freeKickX = instant.X;
         else
-            instant.outcomeState.X = Constants.FLANK;
-            
-        instant.outcomeState.Y = instant.Y;
-        instant.outcomeState.Pressure = Constants.CLEAR;
+            freeKickX = Constants.FLANK;
+        
+        Instant freeKickInstant = instant.withOutcomeState(new ResultState(freeKickX, instant.Y, Constants.CLEAR));
         
         // System.out.println("Simulating free kick state");
         
-        return simulateNextState(instant, false);
+        return simulateNextState(freeKickInstant, false);
     }
     
     /**
@@ -2570,32 +2150,6 @@ public class Match {
      * @return The next state
      */
     
-    /**
-     * Used in the restriction of the available actions to each player by its position in the field. Essentially the distinction is between a 
-     * goalkeeper and an outfield player
-     * @param action The action checked
-     * @param position The player's position
-     * @return True if the action is compatible with the position
-     */
-    private boolean actionAllowed(byte action, int position) {
-        
-        if (position == Constants.GK) {
-            if (action == Constants.GkLongPass ||
-                action == Constants.Pass ||
-                action == Constants.FlankPass ||
-                action == Constants.KickAway) 
-                    {return true;}
-            else {return false;}
-        } else {
-            if (action == Constants.GkLongPass) {
-                return false;
-            } else {
-                return true;
-            }
-        }
-        
-    }
-    
     /**
      * Simulation of the next state based on the current instant
      * @param currentInstant
@@ -2650,7 +2204,7 @@ public class Match {
                         
                     }
                 } else {
-                    nextState.setRandomSide();
+                    nextState.setRandomSide(rnd);
                 }
             }
             
@@ -2733,12 +2287,12 @@ public class Match {
                              do {
                                  
                                  candidatePlayer = 
-                                     nextState.getTeam().getAnyDefensivePlayer(currentPosition, matchReport.getCurrentState().getPlayer());
+                                     nextState.getTeam().getAnyDefensivePlayer(currentPosition, matchReport.getCurrentState().getPlayer(), rnd);
                                  
                              } while (candidatePlayer == matchReport.getCurrentState().getPlayer());
                                      
                          } else {
-                                 candidatePlayer = nextState.getTeam().getAnyDefensivePlayer(currentPosition);
+                                 candidatePlayer = nextState.getTeam().getAnyDefensivePlayer(currentPosition, rnd);
                          }
                          
                          nextState.setPlayer(candidatePlayer);
@@ -2766,7 +2320,7 @@ public class Match {
                      }
                      do {
                          candidatePlayer = 
-                             nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, matchReport.getCurrentState().getPlayer());
+                             nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, matchReport.getCurrentState().getPlayer(), rnd);
                      } while (candidatePlayer == matchReport.getCurrentState().getPlayer() && 
                              playerPossession == OOConstants.PLAYER_POSSESSION_DIFFERENT);
                       
@@ -2776,7 +2330,7 @@ public class Match {
              case Constants.ATTACK:
                  
                  if (currentInstant.outcomeState.X == Constants.CORNER_KICK) {
-                     nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER));
+                     nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, rnd));
                  } else {
                      
                      if (playerPossession == OOConstants.PLAYER_POSSESSION_SAME) {
@@ -2798,7 +2352,7 @@ public class Match {
                          }
                          
                          candidatePlayer = nextState.getTeam().getPlayerByPosition(Constants.FORWARD, currentPosition, 
-                                 matchReport.getCurrentState().getPlayer());
+                                 matchReport.getCurrentState().getPlayer(), rnd);
                          
                          nextState.setPlayer(candidatePlayer);
                      }
@@ -2821,7 +2375,7 @@ public class Match {
                 if (matchReport.getCurrentState().inFlank()) {
                     nextState.changeSide(matchReport.getCurrentState().getSide());
                 } else {
-                    nextState.setRandomSide();
+                    nextState.setRandomSide(rnd);
                 }
             }
             
@@ -2839,13 +2393,13 @@ public class Match {
             
             switch (currentInstant.outcomeState.Y) {
             case Constants.DEFENCE:
-                nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition));
+                nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition, rnd));
                 break;
             case Constants.CENTRE:
-                nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+                nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
                 break;
             case Constants.ATTACK:
-                nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.FORWARD, currentPosition));
+                nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.FORWARD, currentPosition, rnd));
                 break;
             }
             
@@ -2879,7 +2433,7 @@ public class Match {
                             nextState.changeSide(matchReport.getCurrentState().getSide());
                         }
                     } else {
-                        nextState.setRandomSide();
+                        nextState.setRandomSide(rnd);
                     }
                 }
                 
@@ -2897,16 +2451,16 @@ public class Match {
                 
                 switch (currentChallenge.endY) {
                 case Constants.DEFENCE:
-                    nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition));
+                    nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition, rnd));
                     break;
                 case Constants.CENTRE:
-                    nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+                    nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
                     break;
                 case Constants.ATTACK:
                     if (currentInstant.outcomeState.X == Constants.CORNER_KICK) {
-                        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+                        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
                     } else {
-                        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.FORWARD, currentPosition));
+                        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.FORWARD, currentPosition, rnd));
                     }
                     break;
                 }
@@ -2931,13 +2485,14 @@ public class Match {
         // System.out.println("Offside: with parameter");
         
         Team outcomeTeam = getOutcomeTeam(currentInstant);
-        toggleTeam(outcomeTeam).getStats().addOffside();
+        getStats(toggleTeam(outcomeTeam)).addOffside();
         matchReport.getCurrentEvent().setSpecial(Report.Offside);
         
         matchRewind.addSignal(new Offside(matchReport.getTimer(), toggleTeam(outcomeTeam).getName()));
+        fireEvent(MatchEvent.OFFSIDE, matchReport.getTimer(), toggleTeam(outcomeTeam), null, MatchEvent.NONE, MatchEvent.NONE);
         
         State nextState = new State(outcomeTeam, State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE);
-        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.DEFENDER));
+        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.DEFENDER, rnd));
         
         return nextState;
     }
@@ -2965,13 +2520,15 @@ public class Match {
         
         // System.out.println("Offside: no parameter");
         
-        matchReport.getCurrentState().getTeam().getStats().addOffside();
+        getStats(matchReport.getCurrentState().getTeam()).addOffside();
         matchReport.getCurrentEvent().setSpecial(Report.Offside);
         
         matchRewind.addSignal(new Offside(matchReport.getTimer(), matchReport.getCurrentState().getTeam().getName()));
+        fireEvent(MatchEvent.OFFSIDE, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), matchReport.getCurrentState().getPlayer(), 
+                MatchEvent.NONE, MatchEvent.NONE);
         
         State nextState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE);
-        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.DEFENDER));
+        nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.DEFENDER, rnd));
         
         return nextState; 
         
@@ -3018,7 +2575,7 @@ public class Match {
             }
         } else {
             // System.out.println("Throw in: random side");
-            nextState.setRandomSide();
+            nextState.setRandomSide(rnd);
         }
         
         Tactics.TacticPosition currentPosition = null;
@@ -3030,9 +2587,9 @@ public class Match {
         }
         
         if (nextState.getY().equals(State.Y.DEFENCE)) {
-            nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition));
+            nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(currentPosition, rnd));
         } else {
-            nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+            nextState.setPlayer(nextState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
         }
         
         return nextState;
@@ -3084,44 +2641,46 @@ public class Match {
      */
     private State processPenalty(State state) {
         
-        gameplay.Player penaltyTaker = state.getTeam().getGoalScorer();
+        gameplay.Player penaltyTaker = state.getTeam().getGoalScorer(rnd);
         double minute = matchReport.getTime();
         
         reportPenalty(state.getTeam(), penaltyTaker, minute);
         
-        matchReport.getCurrentState().getTeam().getStats().addFreeKick(); // Count the penalty as one of the free kicks
+        getStats(matchReport.getCurrentState().getTeam()).addFreeKick(); // Count the penalty as one of the free kicks
         
         State nextState = null;
         
-        int penaltyOutcome = getNormalizedOutcome(RealWorldMapping.PenaltyShotStats);
+        int penaltyOutcome = penaltyShotOutcomes.sample(rnd);
         
         matchRewind.addSignal(new PenaltyKick(matchReport.getTimer(), penaltyTaker.getFamilyName(), penaltyOutcome, 
                 matchReport.getCurrentState().getTeam().getName()));
+        fireEvent(MatchEvent.PENALTY, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), penaltyTaker, MatchEvent.NONE, penaltyOutcome);
         
         switch (penaltyOutcome) {
         case RealWorldMapping.PENALTY_GOAL:
             
-            matchReport.getCurrentState().getTeam().getStats().scoreGoal();
-            penaltyTaker.getStats().addGoal(matchReport.getTimer());
-            matchReport.getCurrentState().getTeam().registerGoalEvent(new Team.GoalDetails(penaltyTaker, minute, true, matchReport.getTimer()));
-            reportPenaltyGoal(penaltyTaker.getFamilyName());
+            getStats(matchReport.getCurrentState().getTeam()).scoreGoal();
+            fireEvent(MatchEvent.GOAL, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), penaltyTaker, MatchEvent.NONE, MatchEvent.NONE);
+            getStats(penaltyTaker).addGoal(matchReport.getTimer());
+            getEvents(matchReport.getCurrentState().getTeam()).registerGoalEvent(new Team.GoalDetails(penaltyTaker, minute, true, matchReport.getTimer()));
+            reportPenaltyGoal(penaltyTaker);
             matchReport.getCurrentEvent().setSpecial(Report.PenaltyGoal);
             
             nextState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE);
-            nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer());
+            nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(rnd));
             
             return nextState; 
             
         case RealWorldMapping.PENALTY_SAVE_DEFENDER:
             
-            gameplay.Player defRebounder = toggleTeam(matchReport.getCurrentState().getTeam()).getDefensiveRebounder();
+            gameplay.Player defRebounder = toggleTeam(matchReport.getCurrentState().getTeam()).getDefensiveRebounder(rnd);
             
-            penaltyTaker.getStats().addPenaltiesMissed(matchReport.getTimer());
-            toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getStats().addPenaltiesSaved(matchReport.getTimer());
+            getStats(penaltyTaker).addPenaltiesMissed(matchReport.getTimer());
+            getStats(toggleTeam(matchReport.getCurrentState().getTeam()).getGK()).addPenaltiesSaved(matchReport.getTimer());
             
-            logHighlight(matchReport.getTimer(), toggleTeam(matchReport.getCurrentState().getTeam()).getGK().getFamilyName() + " saves!");
-            logHighlight(matchReport.getTimer(), defRebounder.getFamilyName() + " has the ball");
-            matchReport.getCurrentState().getTeam().registerMissedPenalty(new Team.MissedPenaltyDetails(penaltyTaker, minute, matchReport.getTimer()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.PENALTY_SAVED, toggleTeam(matchReport.getCurrentState().getTeam()).getGK()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HAS_THE_BALL, defRebounder));
+            getEvents(matchReport.getCurrentState().getTeam()).registerMissedPenalty(new Team.MissedPenaltyDetails(penaltyTaker, minute, matchReport.getTimer()));
             matchReport.getCurrentEvent().setSpecial(Report.PenaltyMissed);
             
             nextState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.PRESSED);
@@ -3131,10 +2690,10 @@ public class Match {
             
         case RealWorldMapping.PENALTY_GOAL_KICK:
             
-            penaltyTaker.getStats().addPenaltiesMissed(matchReport.getTimer());
+            getStats(penaltyTaker).addPenaltiesMissed(matchReport.getTimer());
             
-            logHighlight(matchReport.getTimer(), "But he puts it wide");
-            matchReport.getCurrentState().getTeam().registerMissedPenalty(new Team.MissedPenaltyDetails(penaltyTaker, minute, matchReport.getTimer()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.PENALTY_WIDE));
+            getEvents(matchReport.getCurrentState().getTeam()).registerMissedPenalty(new Team.MissedPenaltyDetails(penaltyTaker, minute, matchReport.getTimer()));
             matchReport.getCurrentEvent().setSpecial(Report.PenaltyMissed);
             
             nextState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE);
@@ -3149,24 +2708,13 @@ public class Match {
     
     /**
      * Logs a highlight about a goal from a penalty being scored
-     * @param name The scorer's surname
+     * @param scorer The scorer
      */
-    private void reportPenaltyGoal(String name) {
-        logHighlight(matchReport.getTimer(), name + " scores!");
-        logHighlight(matchReport.getTimer(), matchReport.getScoreLine(this.homeTeam, this.awayTeam));
+    private void reportPenaltyGoal(Player scorer) {
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.SCORES, scorer));
+        logHighlight(matchReport.getTimer(), getScoreLine());
     }
 
-    /**
-     * Get the outcome based on a "single dimension" probabilistic model
-     * 
-     * @param events The probabilistic model. Each cell value will be the probability of a single event
-     * @return The outcome index
-     */
-    private int getNormalizedOutcome(double [] events) {
-        double [] abilityArray = {1, 1, 1};
-        return getOutcome(events, abilityArray);
-    }
-    
     /**
      * Log a highlight about the occurence of a penalty kick
      * @param team The team been awarded the penalty
@@ -3174,9 +2722,9 @@ public class Match {
      * @param minute The minute of the penalty in simulated time
      */
     public void reportPenalty(Team team, Player taker, double minute) {
-        logHighlight(matchReport.getTimer(), new Integer(new Double(minute).intValue()).toString() + "'");
-        logHighlight(matchReport.getTimer(), "Penalty for " + team.getName() + "!");
-        logHighlight(matchReport.getTimer(), taker.getFamilyName() + " is going to take it");
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.MINUTE, (int) minute));
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.PENALTY_AWARDED, team));
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.PENALTY_TAKER, taker));
     }
     
     /**
@@ -3234,7 +2782,7 @@ public class Match {
         // Get shot outcome
         double shotOutcome = rnd.nextDouble();
         
-        matchReport.getCurrentState().getTeam().getStats().addShotOffTarget();
+        getStats(matchReport.getCurrentState().getTeam()).addShotOffTarget();
         
         State outcomeState = null;
         
@@ -3251,7 +2799,7 @@ public class Match {
             if (matchReport.getCurrentState().inFlank()) {
                 outcomeState.setSide(matchReport.getCurrentState().getSide());
             } else {
-                outcomeState.setRandomSide();
+                outcomeState.setRandomSide(rnd);
             }
             
             Tactics.TacticPosition currentPosition = null;
@@ -3262,7 +2810,7 @@ public class Match {
                 currentPosition = Tactics.TacticPosition.RIGHT;
             }
             
-            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
             
             cornerKick = true;
         }
@@ -3282,7 +2830,8 @@ public class Match {
             
         }
         
-        reportShotOff(shooter.getFamilyName(), minute, action, cornerKick);
+        fireEvent(MatchEvent.SHOT_OFF, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), shooter, action, cornerKickIndex);
+        reportShotOff(shooter, minute, action, cornerKick);
         matchReport.getCurrentEvent().setSpecial(Report.ShotOff);
         
         return outcomeState;
@@ -3299,19 +2848,10 @@ public class Match {
         Player shooter = matchReport.getCurrentState().getPlayer();
         
         double minute = matchReport.getTime();
-        double shotOutcome = rnd.nextDouble() * 100;
-        
-        double totalOutcome = 0;
-        int outcomeIndex = 0;
-        for (int i = 0; i < RealWorldMapping.ShotOnStats.length; i++) {
-            totalOutcome += RealWorldMapping.ShotOnStats[i];
-            if (shotOutcome < totalOutcome) {
-                outcomeIndex = i;
-                break;
-            }
-        }
         
-        matchReport.getCurrentState().getTeam().getStats().addShotOnTarget();
+        int outcomeIndex = shotOnOutcomes.sample(rnd);
+        
+        getStats(matchReport.getCurrentState().getTeam()).addShotOnTarget();
         
         State outcomeState = null;
         
@@ -3319,7 +2859,7 @@ public class Match {
         case RealWorldMapping.AFTER_SHOT_DEFENDER:
         case RealWorldMapping.AFTER_SHOT_POST_DEFENDER:
             outcomeState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.PRESSED);
-            outcomeState.setPlayer(outcomeState.getTeam().getDefensiveRebounder());
+            outcomeState.setPlayer(outcomeState.getTeam().getDefensiveRebounder(rnd));
             break;
         case RealWorldMapping.AFTER_SHOT_GK:
         case RealWorldMapping.AFTER_SHOT_POST_GK:
@@ -3333,7 +2873,7 @@ public class Match {
             if (matchReport.getCurrentState().inFlank()) {
                 outcomeState.setSide(matchReport.getCurrentState().getSide());
             } else {
-                outcomeState.setRandomSide();
+                outcomeState.setRandomSide(rnd);
             }
             
             Tactics.TacticPosition currentPosition = null;
@@ -3344,13 +2884,13 @@ public class Match {
                 currentPosition = Tactics.TacticPosition.RIGHT;
             }
             
-            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition));
+            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentPosition, rnd));
             break;
         case RealWorldMapping.AFTER_SHOT_FORWARD:
         case RealWorldMapping.AFTER_SHOT_POST_FORWARD:
         case RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_FORWARD:
             outcomeState = new State(matchReport.getCurrentState().getTeam(), State.X.AXIS, State.Y.ATTACK, State.Pressure.PRESSED);
-            outcomeState.setPlayer(outcomeState.getTeam().getAttackingRebounder());
+            outcomeState.setPlayer(outcomeState.getTeam().getAttackingRebounder(rnd));
             break;
         case RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_THROW_IN:
         case RealWorldMapping.AFTER_SHOT_THROW_IN:
@@ -3359,7 +2899,7 @@ public class Match {
             if (matchReport.getCurrentState().inFlank()) {
                 outcomeState.setSide(matchReport.getCurrentState().getSide());
             } else {
-                outcomeState.setRandomSide();
+                outcomeState.setRandomSide(rnd);
             }
             
             Tactics.TacticPosition currentThrowInPos = null;
@@ -3370,11 +2910,19 @@ public class Match {
                 currentThrowInPos = Tactics.TacticPosition.RIGHT;
             }
             
-            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentThrowInPos));
+            outcomeState.setPlayer(outcomeState.getTeam().getPlayerByPosition(Constants.MIDFIELDER, currentThrowInPos, rnd));
             break;
         }
       
-        reportShotOn(shooter.getFamilyName(), minute, action, outcomeIndex, matchReport.getCurrentState(), outcomeState);
+        // The defender saving on the line is only named in the highlight, but drawn whether the highlight is shown or not
+        gameplay.Player lineSaver = null;
+        
+        if (outcomeIndex == RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_FORWARD || outcomeIndex == RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_THROW_IN) {
+            lineSaver = toggleTeam(matchReport.getCurrentState().getTeam()).getDefensiveRebounder(rnd);
+        }
+        
+        fireEvent(MatchEvent.SHOT_ON, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), shooter, action, outcomeIndex);
+        reportShotOn(shooter, minute, action, outcomeIndex, matchReport.getCurrentState(), outcomeState, lineSaver);
         matchReport.getCurrentEvent().setSpecial(Report.ShotOn);
         
         if (!cross) {
@@ -3395,76 +2943,78 @@ public class Match {
     
     /**
      * Logs a "shot off" event as a highlight
-     * @param familyName The shooter's family name
+     * @param shooter The shooter
      * @param minute The simulated time's minute
      * @param action The action which resulted in the "shot off"
      * @param cornerKick The shot off event started from a corner kick
      */
-    private void reportShotOff(String familyName, double minute, byte action, boolean cornerKick) {
-        logHighlight(matchReport.getTimer(), new Integer(new Double(minute).intValue()).toString() + "'");
-        describeCurrentAction(familyName, action);
-        logHighlight(matchReport.getTimer(), "But he doesn't find target");
+    private void reportShotOff(Player shooter, double minute, byte action, boolean cornerKick) {
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.MINUTE, (int) minute));
+        describeCurrentAction(shooter, action);
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.OFF_TARGET));
         if (cornerKick) {
-            logHighlight(matchReport.getTimer(), "The ball must have deflected somewhere...");
-            logHighlight(matchReport.getTimer(), "It's a corner");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.DEFLECTED));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.CORNER));
         }            
     }
     
     /**
      * Logs as "shot on" event as a highlight
-     * @param familyName The shooter's family name
+     * @param shooter The shooter
      * @param minute The simulated time's minute
      * @param action The action of the "shot on" event
      * @param outcomeIndex The code showing what the outcome is
      * @param state The current state
      * @param outcomeState The resulting state
+     * @param lineSaver The defender saving the shot on the line, if any
      */
-    private void reportShotOn(String familyName, double minute, byte action, int outcomeIndex, State state, State outcomeState) {
-        logHighlight(matchReport.getTimer(), new Integer(new Double(minute).intValue()).toString() + "'");
-        describeCurrentAction(familyName, action);
+    private void reportShotOn(Player shooter, double minute, byte action, int outcomeIndex, State state, State outcomeState, 
+            Player lineSaver) {
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.MINUTE, (int) minute));
+        describeCurrentAction(shooter, action);
         switch(outcomeIndex) {
         case RealWorldMapping.AFTER_SHOT_DEFENDER:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " saves");
-            logHighlight(matchReport.getTimer(), outcomeState.getPlayer().getFamilyName() + " has the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES, toggleTeam(state.getTeam()).getGK()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HAS_THE_BALL, outcomeState.getPlayer()));
             break;
         case RealWorldMapping.AFTER_SHOT_POST_DEFENDER:
-            logHighlight(matchReport.getTimer(), "Hits the post!");
-            logHighlight(matchReport.getTimer(), outcomeState.getPlayer().getFamilyName() + " has the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HITS_THE_POST));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HAS_THE_BALL, outcomeState.getPlayer()));
             break;
         case RealWorldMapping.AFTER_SHOT_GK:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " saves and holds the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES_AND_HOLDS, toggleTeam(state.getTeam()).getGK()));
             break;
         case RealWorldMapping.AFTER_SHOT_POST_GK:
-            logHighlight(matchReport.getTimer(), "Hits the post!");
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " holds the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HITS_THE_POST));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HOLDS, toggleTeam(state.getTeam()).getGK()));
             break;
         case RealWorldMapping.AFTER_SHOT_POST_GOAL_KICK:
-            logHighlight(matchReport.getTimer(), "Hits the post!");
-            logHighlight(matchReport.getTimer(), "The ball is out for a goal kick");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HITS_THE_POST));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.OUT_FOR_GOAL_KICK));
             break;
         case RealWorldMapping.AFTER_SHOT_CORNER_KICK:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " saves");
-            logHighlight(matchReport.getTimer(), "The ball is out for a corner");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES, toggleTeam(state.getTeam()).getGK()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.OUT_FOR_CORNER));
             break;
         case RealWorldMapping.AFTER_SHOT_FORWARD:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " saves");
-            logHighlight(matchReport.getTimer(), outcomeState.getPlayer().getFamilyName() + " has the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES, toggleTeam(state.getTeam()).getGK()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HAS_THE_BALL, outcomeState.getPlayer()));
             break;
         case RealWorldMapping.AFTER_SHOT_POST_FORWARD:
-            logHighlight(matchReport.getTimer(), "Hits the post!");
-            logHighlight(matchReport.getTimer(), outcomeState.getPlayer().getFamilyName() + " has the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HITS_THE_POST));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.HAS_THE_BALL, outcomeState.getPlayer()));
             break;
         case RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_FORWARD:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getDefensiveRebounder().getFamilyName() + " saves on the line!");
-            logHighlight(matchReport.getTimer(), outcomeState.getPlayer().getFamilyName() + " gets the ball");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES_ON_THE_LINE, lineSaver));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.GETS_THE_BALL, outcomeState.getPlayer()));
             break;
         case RealWorldMapping.AFTER_SHOT_DEFENDER_SAVE_THROW_IN:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getDefensiveRebounder().getFamilyName() + " saves on the line!");
-            logHighlight(matchReport.getTimer(), "The ball is out for a throw in");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES_ON_THE_LINE, lineSaver));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.OUT_FOR_THROW_IN));
             break;
         case RealWorldMapping.AFTER_SHOT_THROW_IN:
-            logHighlight(matchReport.getTimer(), toggleTeam(state.getTeam()).getGK().getFamilyName() + " saves");
-            logHighlight(matchReport.getTimer(), "The ball is out for a throw in");
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.SAVES, toggleTeam(state.getTeam()).getGK()));
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.OUT_FOR_THROW_IN));
             break;
         }
     }
@@ -3483,21 +3033,22 @@ public class Match {
         
         double minute = matchReport.getTime();
         
-        matchReport.getCurrentState().getTeam().getStats().scoreGoal(); // Update score
-        goalScorer.getStats().addGoal(matchReport.getTimer());
+        getStats(matchReport.getCurrentState().getTeam()).scoreGoal(); // Update score
+        getStats(goalScorer).addGoal(matchReport.getTimer());
         
         // For the statistics
-        matchReport.getCurrentState().getTeam().getStats().addShotOnTarget();
+        getStats(matchReport.getCurrentState().getTeam()).addShotOnTarget();
         
-        matchReport.getCurrentState().getTeam().registerGoalEvent(new Team.GoalDetails(goalScorer, minute, false, matchReport.getTimer()));
+        getEvents(matchReport.getCurrentState().getTeam()).registerGoalEvent(new Team.GoalDetails(goalScorer, minute, false, matchReport.getTimer()));
         
-        reportGoal(goalScorer.getFamilyName(), minute, action);
+        fireEvent(MatchEvent.GOAL, matchReport.getTimer(), matchReport.getCurrentState().getTeam(), goalScorer, action, MatchEvent.NONE);
+        reportGoal(goalScorer, minute, action);
         
         matchReport.getCurrentEvent().setSpecial(Report.Goal);
         
         State nextState = new State(toggleTeam(matchReport.getCurrentState().getTeam()), State.X.AXIS, State.Y.DEFENCE, State.Pressure.FREE);
         
-        nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer());
+        nextState.setPlayer(nextState.getTeam().getAnyDefensivePlayer(rnd));
         
         if (!cross) {
         
@@ -3519,44 +3070,44 @@ public class Match {
     /**
      * Logs a goal as a highlight
      * 
-     * @param familyName The family name of the scorer
+     * @param scorer The scorer
      * @param minute The minute of the simulated time the goal was scored
      * @param action The action with which the goal is scored
      */
-    private void reportGoal(String familyName, double minute, byte action) {
-        logHighlight(matchReport.getTimer(), new Integer(new Double(minute).intValue()).toString() + "'");
-        describeCurrentAction(familyName, action);
-        logHighlight(matchReport.getTimer(), familyName + " scores!");
-        logHighlight(matchReport.getTimer(), matchReport.getScoreLine(this.homeTeam, this.awayTeam));
+    private void reportGoal(Player scorer, double minute, byte action) {
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.MINUTE, (int) minute));
+        describeCurrentAction(scorer, action);
+        logHighlight(matchReport.getTimer(), new Highlight(Highlight.SCORES, scorer));
+        logHighlight(matchReport.getTimer(), getScoreLine());
     }
     
     /**
      * Outputs to the user a description of an action
      * 
-     * @param name The family name of the player performing the action
+     * @param player The player performing the action
      * @param action The action code
      */
-    private void describeCurrentAction(String name, byte action) {
+    private void describeCurrentAction(Player player, byte action) {
         
-        String description = "";
+        int description;
         
         switch(action) {
         case Constants.LongShot:
-            description = " attempts a shot from long range";
+            description = Highlight.LONG_SHOT;
             break;
         case Constants.AreaShot:
-            description = " has the ball inside the penalty area";
+            description = Highlight.AREA_SHOT;
             break;
         case Constants.Cross:
         case Constants.LongCross:
-            logHighlight(matchReport.getTimer(), matchReport.getCurrentState().getCrosser().getFamilyName() + " crosses the ball");
-            description = " gets the ball from the cross!";
+            logHighlight(matchReport.getTimer(), new Highlight(Highlight.CROSSES, matchReport.getCurrentState().getCrosser()));
+            description = Highlight.FROM_CROSS;
             break;
         default:
-            description = " didn't expect the ball"; 
+            description = Highlight.UNEXPECTED; 
         }
         
-        logHighlight(matchReport.getTimer(), name + description);
+        logHighlight(matchReport.getTimer(), new Highlight(description, player));
     }
     
     /**
@@ -3650,20 +3201,6 @@ public class Match {
             }
     }
      
-    /**
-     * Checks whether an instant (from the probability model) is compatible with the (current) state
-     * @param instant The checked instant
-     * @param state The current state
-     * @return The instant is compatible with the state
-     */
-    private boolean matchCurrentState(Instant instant, State state) {
-        
-        return (state.getX().matchValue(instant.X) &&
-                state.getY().matchValue(instant.Y) &&
-                state.getPressure().matchValue(instant.Pressure));
-        
-    }
-    
     /**
      * Checks whether an instant (from the probability model) is compatible with the (current) state without taking pressure into account
      * @param instant The checked instant
@@ -3675,61 +3212,16 @@ public class Match {
     }
     
     /**
-     * Transforms the "probability model" from its binary format as it is read from a file to an object-oriented representation
+     * 
+     * @return The current version of the probability model, acquired through the handle of the match if it has been set
      */
-    private void transformProbModel() {
+    private ProbModel acquireProbModel() {
         
-        for (int i = 0; i < probModel.size(); i++) {
-            
-            byte currentY = probModel.get(i).getCurrentRow()[Constants.Y];
-            byte currentX = probModel.get(i).getCurrentRow()[Constants.X];
-            byte currentPressure = probModel.get(i).getCurrentRow()[Constants.PRESSURE];
-            byte currentAction = probModel.get(i).getCurrentRow()[Constants.ACTION];
-            
-            Instant currentInstant = new Instant(currentY, currentX, currentPressure, currentAction);
-            
-            byte resY = probModel.get(i).getCurrentRow()[Constants.RES_Y];
-            byte resX = probModel.get(i).getCurrentRow()[Constants.RES_X];
-            byte resPressure = probModel.get(i).getCurrentRow()[Constants.RES_PRESSURE];
-            
-            ResultState resultState = new ResultState(resX, resY, resPressure);
-            currentInstant.outcomeState = resultState;
-            
-            // System.out.println(resultState);
-            
-            // Now the mess starts to untangle
-            byte [] currentRow = probModel.get(i).getCurrentRow();
-            
-            if (currentRow[Constants.RESULT_DESC] == Constants.CONDITION && currentRow[Constants.RES_TEAM] == Constants.OPP_TEAM) {
-                
-                currentInstant.outcome = new Opponent(OOConstants.COND_NORMAL, currentRow[Constants.BALL_POSSESSION_CHANGE]);
-                
-            } else if (currentRow[Constants.RESULT_DESC] == Constants.CONDITION && currentRow[Constants.RES_TEAM] == Constants.OWN_TEAM) {
-                
-                currentInstant.outcome = new Success(OOConstants.COND_NORMAL);
-                
-            } else if (currentRow[Constants.RESULT_DESC] == Constants.CHALLENGE) {
-                
-                currentInstant.outcome = new Challenge(currentRow[Constants.CHALLENGE_TEAM], currentRow[Constants.CHALLENGE_Y], 
-                                                       currentRow[Constants.RES_TEAM], currentRow[Constants.RES_Y], currentRow[Constants.RES_X], 
-                                                       currentRow[Constants.CHALLENGE_ENDING], currentRow[Constants.CHALLENGE_TYPE]);
-                
-            } else if (currentRow[Constants.RESULT_DESC] == Constants.OTHER) {
-                if (currentRow[Constants.RES_TEAM] == Constants.OWN_TEAM) {
-                    currentInstant.outcome = new Success(currentRow[Constants.OTHER_RES]);
-                } else if (currentRow[Constants.RES_TEAM] == Constants.OPP_TEAM) {
-                    currentInstant.outcome = new Opponent(currentRow[Constants.OTHER_RES], currentRow[Constants.BALL_POSSESSION_CHANGE]);
-                }
-            }
-            
-            // save id for easier debugging; it doesn't really mean a thing otherwise as ids with the same modulo are duplicated
-            currentInstant.rowId = currentRow[Constants.ROW_ID]; 
-            
-            // System.out.println(currentInstant);
-           
-            matchRepresentation.add(currentInstant);
+        if (probModelHandle != null) {
+            return probModelHandle.acquire();
         }
         
+        return ProbModel.getInstance(probModelFilename);
     }
     
     /**
@@ -3737,54 +3229,13 @@ public class Match {
      */
     public void showProbModel() {
         
-        loadProbModel();
-        transformProbModel();
+        ProbModel probModel = acquireProbModel();
         
-        for (Instant instant:matchRepresentation) {
-            System.out.println(instant);
+        for (int row = 0; row < probModel.size(); row++) {
+            System.out.println(probModel.getInstant(row));
         } 
     }
     
-    /**
-     * Reads the binary file describing the match probability model and loads it to the corresponding data structure
-     */
-    private void loadProbModel() {
-        
-        try {
-            FileInputStream binaryInput = new FileInputStream(probModelFilename);
-            
-            byte [] currentRow = new byte[Constants.REC_SIZE];
-            
-            int currentSize = -1;
-            while ((currentSize = binaryInput.read(currentRow)) != -1) {
-                
-                if (currentSize != Constants.REC_SIZE) {
-                    System.out.println("Possibly corrupted file. Reading operation failed");
-                    return;
-                }
-                
-                byte [] loadedRow = new byte[Constants.REC_SIZE];
-                
-                for (int i = 0; i < loadedRow.length; i++) {
-                    loadedRow[i] = currentRow[i];
-                }
-                
-                WrapperObject currentWO = new WrapperObject(loadedRow);
-                
-                probModel.add(currentWO);
-            }
-            
-            binaryInput.close();
-            
-        } catch (FileNotFoundException fnfe) {
-            System.out.println("Probabilistic model data not found");
-            return;
-        } catch (IOException ioe) {
-            System.out.println("Error reading probabilistic model file");
-            return;
-        }
-    }
-    
     /**
      * Simulates the coin toss to decide whether the home or away team is going to kick off
      * 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+/**
+ * A structured match event passed to the event listeners of a match. It only carries primitive fields, so that it is cheap to create, 
+ * to queue and to serialize; the names of the teams and players are looked up by the listener if needed.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public final class MatchEvent {
+    
+    public final static int GOAL = 1;
+    public final static int SHOT_ON = 2;
+    public final static int SHOT_OFF = 3;
+    public final static int CORNER_KICK = 4;
+    public final static int FREE_KICK = 5;
+    public final static int PENALTY = 6;
+    public final static int OFFSIDE = 7;
+    public final static int POSSESSION_UPDATE = 8;
+    public final static int HALF_TIME = 9;
+    public final static int FULL_TIME = 10;
+    
+    public final static String [] typeDescription = {"", "Goal", "Shot on", "Shot off", "Corner kick", "Free kick", "Penalty", "Offside", 
+        "Possession", "Half time", "Full time"};
+    
+    public final static int NONE = -1;
+    public final static int HOME_TEAM = 0;
+    public final static int AWAY_TEAM = 1;
+    
+    private final int type;
+    private final int tick;
+    private final int team;
+    private final int player;
+    private final int action;
+    private final int outcome;
+    
+    /**
+     * 
+     * @param type The event type
+     * @param tick The virtual time of the event
+     * @param team The index of the team of the event: HOME_TEAM, AWAY_TEAM or NONE
+     * @param player The shirt number of the player of the event, or NONE
+     * @param action The action code of the event (e.g. the kind of shot), or NONE
+     * @param outcome The outcome code of the event, depending on its type:
+     * the detailed outcome of a shot on target,
+     * 1 for a shot off target deflected for a corner kick and 0 otherwise,
+     * the outcome of a penalty,
+     * the ball possession percentage of the team for a possession update,
+     * or NONE
+     */
+    public MatchEvent(int type, int tick, int team, int player, int action, int outcome) {
+        this.type = type;
+        this.tick = tick;
+        this.team = team;
+        this.player = player;
+        this.action = action;
+        this.outcome = outcome;
+    }
+    
+    public int getType() {
+        return this.type;
+    }
+    
+    public int getTick() {
+        return this.tick;
+    }
+    
+    public int getTeam() {
+        return this.team;
+    }
+    
+    public int getPlayer() {
+        return this.player;
+    }
+    
+    public int getAction() {
+        return this.action;
+    }
+    
+    public int getOutcome() {
+        return this.outcome;
+    }
+    
+    public String toString() {
+        return this.tick + "," + typeDescription[this.type] + "," + this.team + "," + this.player + "," + this.action + "," + this.outcome;
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+/**
+ * Receives the structured events of a match as they happen. A match without event listeners does not create any events, which is the case 
+ * for batch simulations. Events are passed on the thread playing the match, so a listener doing any I/O should hand them over to a thread 
+ * of its own, as the EventFileWriter does.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public interface MatchEventListener {
+    
+    /**
+     * 
+     * @param event The event that has just taken place
+     */
+    public void onEvent(MatchEvent event);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+/**
+ * The destination of the output of a match: its highlights while it is being played and its summary at the final whistle. A match
+ * without any output is played headless; it only fills in its stats, events and match report, which are read from the match afterwards.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public interface MatchOutput {
+    
+    /**
+     * Called for every highlight of the match
+     * @param time The virtual time of the highlight, or -1 for highlights not taking place in a specific time (e.g. the score line at half time)
+     * @param highlight The highlight, to be rendered as text if it is displayed
+     */
+    public void highlight(int time, Highlight highlight);
+    
+    /**
+     * Called once at the final whistle
+     * @param match The match that has ended
+     */
+    public void fullTime(Match match);
+
+}
@@ -18,7 +18,7 @@
 package core;
 
 import java.util.ArrayList;
-import java.util.Set;
+import java.util.Arrays;
 import java.util.TreeMap;
 
 import report.ReportObject;
@@ -40,9 +40,12 @@ public class MatchReport {
     private double time;
     
     private ArrayList<ReportObject> report = new ArrayList<ReportObject>();
-    private TreeMap<HighLightOrdinal, String> highlights = new TreeMap<HighLightOrdinal, String>();
+    private TreeMap<HighLightOrdinal, Highlight> highlights = new TreeMap<HighLightOrdinal, Highlight>();
     private ReportObject currentEvent = new ReportObject();
     
+    // The sequence of the last highlight appended at each virtual time, so that a highlight is appended without looking for the simultaneous ones
+    private int [] lastSequence = new int[2 * halfDuration + 1];
+    
     public ArrayList<ReportObject> getReport() {
         return report;
     }
@@ -53,89 +56,41 @@ public class MatchReport {
      */
     public void clearLaterHighlights(int time) {
         
-        // System.out.println("---- CLEAR HIGHLIGHTS ----");
-        // System.out.println("Highlights before : " + highlights.size());
-        
-        Set<HighLightOrdinal> highlightKeys = highlights.keySet();
-        TreeMap<HighLightOrdinal, String> retainedHighlights = new TreeMap<HighLightOrdinal, String>();
+        highlights.tailMap(new HighLightOrdinal(time + 1, 0)).clear();
         
-        for (HighLightOrdinal highlight:highlightKeys) {
-            if (highlight.getTime() <= time) {
-                retainedHighlights.put(highlight, highlights.get(highlight));
-            }
+        if (time + 1 < lastSequence.length) {
+            Arrays.fill(lastSequence, Math.max(time + 1, 0), lastSequence.length, 0);
         }
-        
-        highlights = retainedHighlights;
-        
-        // System.out.println("Highlights after: " + highlights.size());
-        // System.out.println("---- CLEAR HIGHLIGHTS ----");
     }
     
     /**
-     * Get only the highlights that are earlier from a specific time
+     * Get only the highlights that are earlier from a specific time. The highlights are copied, so they are not affected by the later changes
+     * of the match report, such as a rewind clearing its highlights.
      * @param time The virtual time up to which the highlights will be returned
      * @return The 'earlier' highlights list
      */
-    public TreeMap<HighLightOrdinal, String> getEarlierHighlights(int time) {
-        
-        Set<HighLightOrdinal> highlightKeys = highlights.keySet();
-        TreeMap<HighLightOrdinal, String> earlierHighlights = new TreeMap<HighLightOrdinal, String>();
-        
-        for (HighLightOrdinal highlight:highlightKeys) {
-            if (highlight.getTime() < time) {
-                earlierHighlights.put(highlight, highlights.get(highlight));
-            }
-        }
-        
-        return earlierHighlights;
-        
+    public TreeMap<HighLightOrdinal, Highlight> getEarlierHighlights(int time) {
+        return new TreeMap<HighLightOrdinal, Highlight>(highlights.headMap(new HighLightOrdinal(time, 0)));
     }
     
-    public TreeMap<HighLightOrdinal, String> getHighlights() {
+    public TreeMap<HighLightOrdinal, Highlight> getHighlights() {
         return highlights;
     }
     
     /**
      * Append a highlight to match report
      * @param time The virtual time of a highlight
-     * @param highlight The highlight as a String. Please note that throughout this documentation the word 'highlight' might have two slightly 
+     * @param highlight The highlight, rendered as text only when it is displayed. Please note that throughout this documentation the word 'highlight' might have two slightly 
      * different meanings. Here it means just a line in the report. In other places it may mean the highlight as a 'whole' comprising more than one
      * lines
      */
-    public void appendHighlight(Integer time, String highlight) {
+    public void appendHighlight(int time, Highlight highlight) {
         
-        // System.out.println("Current highlight: " + highlight);
-        
-        ArrayList<HighLightOrdinal> simultaneousHighlights = new ArrayList<HighLightOrdinal>();
-        
-        HighLightOrdinal currentHighlight = null;
-        HighLightOrdinal newHighlight = null;
-        
-        for (HighLightOrdinal regHighlight:highlights.keySet()) {
-            // System.out.println("Sought highlight: " + regHighlight);
-            if (regHighlight.isSimultaneous(time)) {
-                // System.out.println("Simultaneous: true");
-                // System.out.println("Registered highlight: " + regHighlight);
-                currentHighlight = regHighlight;
-            } else {
-                if (currentHighlight != null) break;
-            }
-        }
-        
-        if (currentHighlight == null) {
-            newHighlight = new HighLightOrdinal(time, 1);
-        } else {
-            newHighlight = new HighLightOrdinal(time, currentHighlight.getSequence() + 1);
+        if (time >= lastSequence.length) {
+            lastSequence = Arrays.copyOf(lastSequence, Math.max(time + 1, 2 * lastSequence.length));
         }
         
-        // System.out.println("Highlight sequence: " + newHighlight.getSequence());
-        
-        // System.out.println("Highlights before: " + highlights.size());
-        // System.out.println(newHighlight);
-        
-        highlights.put(newHighlight, highlight);
-        
-        // System.out.println("Highlights after: " + highlights.size());
+        highlights.put(new HighLightOrdinal(time, ++lastSequence[time]), highlight);
     }
    
     /**
@@ -185,13 +140,14 @@ public class MatchReport {
     }
     
     /**
-     * Getter for a String representation of the current scoreline
+     * Getter for a highlight of the current scoreline
      * @param homeTeam The home team object
+     * @param homeGoals The goals scored by the home team
      * @param awayTeam The away team object
+     * @param awayGoals The goals scored by the away team
      * @return The scoreline
      */
-    public String getScoreLine(Team homeTeam, Team awayTeam) {
-        return homeTeam.getName() + " - " + awayTeam.getName() + " " + 
-            homeTeam.getStats().getGoalsScored() + " - " + awayTeam.getStats().getGoalsScored();
+    public Highlight getScoreLine(Team homeTeam, int homeGoals, Team awayTeam, int awayGoals) {
+        return new Highlight(homeTeam, homeGoals, awayTeam, awayGoals);
     }
 }
@@ -36,24 +36,30 @@ public class MatchRewind extends MatchReport {
     private boolean secondHalf;
     
     /**
-     * Removes all match events from a certain time onward to be overwritten by the updated events
+     * Removes all match events from a certain time onward to be overwritten by the updated events. The events are in time order, as they
+     * are added while the match is played, so the first event to be removed is found with a binary search and the list is cut there.
      * 
      * @param startTime The virtual time from which the events will be ovewritten
      * 
      */
     public void remove(int startTime) {
         
-        ArrayList<Signal> temp = new ArrayList<Signal>();
+        int low = 0;
+        int high = events.size();
         
-        for (Signal currentSignal:events) {
-            if (currentSignal.getTime() <= startTime) {
-                temp.add(currentSignal);
+        // Find the first event later than the start time
+        while (low < high) {
+            
+            int middle = (low + high) >>> 1;
+            
+            if (events.get(middle).getTime() <= startTime) {
+                low = middle + 1;
             } else {
-                break;
+                high = middle;
             }
         }
         
-        this.events = temp;
+        events.subList(low, events.size()).clear();
         
     }
     
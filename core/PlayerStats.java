@@ -19,11 +19,12 @@ package core;
 
 import gameplay.Player;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import utility.MathUtil;
 import utility.RealWorldMapping;
 import utility.Tactics;
+import utility.TimeSeries;
 
 /**
  * 
@@ -33,37 +34,49 @@ import utility.Tactics;
 
 public class PlayerStats {
     
-    public PercStats gkLongPass = new PercStats();
-    public PercStats longPass = new PercStats();
-    public PercStats forwardPass = new PercStats();
-    public PercStats flankPass = new PercStats();
-    public PercStats ballControl = new PercStats();
-    public PercStats dribbling = new PercStats();
-    public PercStats longFlankPass = new PercStats();
-    public PercStats pass = new PercStats();
-    public PercStats areaPass = new PercStats();
-    public PercStats runBall = new PercStats();
-    public PercStats lowCross = new PercStats();
+    // The occurences (total attempts) and successful attempts of the stats categories along with their records, indexed by category id. 
+    // Successful attempts are recorded only for the stats categories rated by percentage. 
+    private int [] totals = new int[StatCategories.size()];
+    private int [] successes = new int[StatCategories.size()];
     
-    public PercStats cross = new PercStats();
+    private TimeSeries [] totalRecords = new TimeSeries[StatCategories.size()];
+    private TimeSeries [] successRecords = new TimeSeries[StatCategories.size()];
     
-    public PercStats shots = new PercStats();
-    public PercStats headingsOnTarget = new PercStats();
+    private LiveRating liveRating;
+    private int latestTime = -1; // The latest virtual time a stat has been registered at
     
-    public UnitStats personalChallenges = new UnitStats();
-    public UnitStats interceptions = new UnitStats();
-    
-    public UnitStats saves = new UnitStats();
-    public UnitStats concedings = new UnitStats();
-    
-    private int goalsScored;
-    private ArrayList<Integer> goalsRecord = new ArrayList<Integer>();
-    
-    private int penaltiesMissed;
-    private ArrayList<Integer> penaltiesMissedRecord = new ArrayList<Integer>();
+    public PlayerStats() {
+        
+        for (StatCategory category:StatCategories.getAll()) {
+            
+            totalRecords[category.getId()] = new TimeSeries();
+            
+            if (category.getRating() == StatCategory.Rating.PERCENTAGE) {
+                successRecords[category.getId()] = new TimeSeries();
+            }
+        }
+    }
     
-    private int penaltiesSaved;
-    private ArrayList<Integer> penaltiesSavedRecord = new ArrayList<Integer>();
+    /**
+     * Copy the player stats up to a specific virtual time point
+     * @param playerStats The player stats to copy
+     * @param time The virtual time point up to which the stats will be copied
+     */
+    private PlayerStats(PlayerStats playerStats, int time) {
+        
+        for (int category = 0; category < totals.length; category++) {
+            
+            totalRecords[category] = playerStats.totalRecords[category].before(time);
+            totals[category] = totalRecords[category].size();
+            
+            if (playerStats.successRecords[category] != null) {
+                successRecords[category] = playerStats.successRecords[category].before(time);
+                successes[category] = successRecords[category].size();
+            }
+        }
+        
+        this.latestTime = Math.min(playerStats.latestTime, time - 1);
+    }
     
     /**
      * Utility function for adjusting effort thresholds for stats categories to the current time: i.e. if a player is expected to make n passes
@@ -86,191 +99,104 @@ public class PlayerStats {
      * @return A new player stats object containing the player stats up to the time point specified
      */
     public PlayerStats getStats(int time) {
-        
-        PlayerStats timedPlayerStats = new PlayerStats();
-        
-        timedPlayerStats.goalsScored = adjustQuantity(timedPlayerStats.goalsRecord = adjustToTime(this.goalsRecord, time));
-        timedPlayerStats.penaltiesMissed = adjustQuantity(timedPlayerStats.penaltiesMissedRecord = adjustToTime(this.penaltiesMissedRecord, time));
-        timedPlayerStats.penaltiesSaved = adjustQuantity(timedPlayerStats.penaltiesSavedRecord = adjustToTime(this.penaltiesSavedRecord, time));
-        
-        timedPlayerStats.gkLongPass.successfulAttempts = 
-            adjustQuantity(timedPlayerStats.gkLongPass.successRecord = adjustToTime(this.gkLongPass.successRecord, time));
-        timedPlayerStats.gkLongPass.totalAttempts = 
-            adjustQuantity(timedPlayerStats.gkLongPass.totalRecord = adjustToTime(this.gkLongPass.totalRecord, time));
-        
-        timedPlayerStats.longPass.successfulAttempts =
-            adjustQuantity(timedPlayerStats.longPass.successRecord = adjustToTime(this.longPass.successRecord, time));
-        timedPlayerStats.longPass.totalAttempts =
-            adjustQuantity(timedPlayerStats.longPass.totalRecord = adjustToTime(this.longPass.totalRecord, time));
-        
-        timedPlayerStats.forwardPass.successfulAttempts =
-            adjustQuantity(timedPlayerStats.forwardPass.successRecord = adjustToTime(this.forwardPass.successRecord, time));
-        timedPlayerStats.forwardPass.totalAttempts =
-            adjustQuantity(timedPlayerStats.forwardPass.totalRecord = adjustToTime(this.forwardPass.totalRecord, time));
-        
-        timedPlayerStats.flankPass.successfulAttempts =
-            adjustQuantity(timedPlayerStats.flankPass.successRecord = adjustToTime(this.flankPass.successRecord, time));
-        timedPlayerStats.flankPass.totalAttempts =
-            adjustQuantity(timedPlayerStats.flankPass.totalRecord = adjustToTime(this.flankPass.totalRecord, time));
-        
-        timedPlayerStats.ballControl.successfulAttempts =
-            adjustQuantity(timedPlayerStats.ballControl.successRecord = adjustToTime(this.ballControl.successRecord, time));
-        timedPlayerStats.ballControl.totalAttempts =
-            adjustQuantity(timedPlayerStats.ballControl.totalRecord = adjustToTime(this.ballControl.totalRecord, time));
-        
-        timedPlayerStats.dribbling.successfulAttempts =
-            adjustQuantity(timedPlayerStats.dribbling.successRecord = adjustToTime(this.dribbling.successRecord, time));
-        timedPlayerStats.dribbling.totalAttempts =
-            adjustQuantity(timedPlayerStats.dribbling.totalRecord = adjustToTime(this.dribbling.totalRecord, time));
-        
-        timedPlayerStats.longFlankPass.successfulAttempts =
-            adjustQuantity(timedPlayerStats.longFlankPass.successRecord = adjustToTime(this.longFlankPass.successRecord, time));
-        timedPlayerStats.longFlankPass.totalAttempts =
-            adjustQuantity(timedPlayerStats.longFlankPass.totalRecord = adjustToTime(this.longFlankPass.totalRecord, time));
-        
-        timedPlayerStats.pass.successfulAttempts =
-            adjustQuantity(timedPlayerStats.pass.successRecord = adjustToTime(this.pass.successRecord, time));
-        timedPlayerStats.pass.totalAttempts =
-            adjustQuantity(timedPlayerStats.pass.totalRecord = adjustToTime(this.pass.totalRecord, time));
-        
-        timedPlayerStats.areaPass.successfulAttempts = 
-            adjustQuantity(timedPlayerStats.areaPass.successRecord = adjustToTime(this.areaPass.successRecord, time));
-        timedPlayerStats.areaPass.totalAttempts =
-            adjustQuantity(timedPlayerStats.pass.totalRecord = adjustToTime(this.areaPass.totalRecord, time));
-        
-        timedPlayerStats.runBall.successfulAttempts =
-            adjustQuantity(timedPlayerStats.runBall.successRecord = adjustToTime(this.runBall.successRecord, time));
-        timedPlayerStats.runBall.totalAttempts =
-            adjustQuantity(timedPlayerStats.runBall.totalRecord = adjustToTime(this.runBall.totalRecord, time));
-        
-        timedPlayerStats.lowCross.successfulAttempts =
-            adjustQuantity(timedPlayerStats.lowCross.successRecord = adjustToTime(this.lowCross.successRecord, time));
-        timedPlayerStats.lowCross.totalAttempts =
-            adjustQuantity(timedPlayerStats.lowCross.totalRecord = adjustToTime(this.lowCross.totalRecord, time));
-        
-        timedPlayerStats.cross.successfulAttempts =
-            adjustQuantity(timedPlayerStats.cross.successRecord = adjustToTime(this.cross.successRecord, time));
-        timedPlayerStats.cross.totalAttempts =
-            adjustQuantity(timedPlayerStats.cross.totalRecord = adjustToTime(this.cross.totalRecord, time));
-        
-        timedPlayerStats.shots.successfulAttempts =
-            adjustQuantity(timedPlayerStats.shots.successRecord = adjustToTime(this.shots.successRecord, time));
-        timedPlayerStats.shots.totalAttempts =
-            adjustQuantity(timedPlayerStats.shots.totalRecord = adjustToTime(this.shots.totalRecord, time));
-        
-        timedPlayerStats.headingsOnTarget.successfulAttempts =
-            adjustQuantity(timedPlayerStats.headingsOnTarget.successRecord = adjustToTime(this.headingsOnTarget.successRecord, time));
-        timedPlayerStats.headingsOnTarget.totalAttempts =
-            adjustQuantity(timedPlayerStats.headingsOnTarget.totalRecord = adjustToTime(this.headingsOnTarget.totalRecord, time));
-        
-        timedPlayerStats.personalChallenges.occurences =
-            adjustQuantity(timedPlayerStats.personalChallenges.occurenceRecord = adjustToTime(this.personalChallenges.occurenceRecord, time));
-        
-        timedPlayerStats.interceptions.occurences =
-            adjustQuantity(timedPlayerStats.interceptions.occurenceRecord = adjustToTime(this.interceptions.occurenceRecord, time));
-        
-        timedPlayerStats.saves.occurences =
-            adjustQuantity(timedPlayerStats.saves.occurenceRecord = adjustToTime(this.saves.occurenceRecord, time));
-        
-        timedPlayerStats.concedings.occurences = 
-            adjustQuantity(timedPlayerStats.concedings.occurenceRecord = adjustToTime(this.concedings.occurenceRecord, time));
-        
-        return timedPlayerStats;
-        
+        return new PlayerStats(this, time);
     }
     
     /**
-     * Adjust all player stats to their values in a specific time
-     * @param time The virtual time to which player stats will be adjusted
+     * Adjust the player stats to a specific time point, i.e. remove any stats after that specific time point
+     * @param time The virtual time point to which the stats will be adjusted
      */
     public void adjustToTime(int time) {
         
-        this.goalsScored = adjustQuantity(this.goalsRecord = adjustToTime(this.goalsRecord, time));
-        this.penaltiesMissed = adjustQuantity(this.penaltiesMissedRecord = adjustToTime(this.penaltiesMissedRecord, time));
-        this.penaltiesSaved = adjustQuantity(this.penaltiesSavedRecord = adjustToTime(this.penaltiesSavedRecord, time));
-        
-        this.gkLongPass.successfulAttempts = adjustQuantity(this.gkLongPass.successRecord = adjustToTime(this.gkLongPass.successRecord, time));
-        this.gkLongPass.totalAttempts = adjustQuantity(this.gkLongPass.totalRecord = adjustToTime(this.gkLongPass.totalRecord, time));
-        
-        this.longPass.successfulAttempts = adjustQuantity(this.longPass.successRecord = adjustToTime(this.longPass.successRecord, time));
-        this.longPass.totalAttempts = adjustQuantity(this.longPass.totalRecord = adjustToTime(this.longPass.totalRecord, time));
-        
-        this.forwardPass.successfulAttempts = adjustQuantity(this.forwardPass.successRecord = adjustToTime(this.forwardPass.successRecord, time));
-        this.forwardPass.totalAttempts = adjustQuantity(this.forwardPass.totalRecord = adjustToTime(this.forwardPass.totalRecord, time));
-        
-        this.flankPass.successfulAttempts = adjustQuantity(this.flankPass.successRecord = adjustToTime(this.flankPass.successRecord, time));
-        this.flankPass.totalAttempts = adjustQuantity(this.flankPass.totalRecord = adjustToTime(this.flankPass.totalRecord, time));
-        
-        this.ballControl.successfulAttempts = adjustQuantity(this.ballControl.successRecord = adjustToTime(this.ballControl.successRecord, time));
-        this.ballControl.totalAttempts = adjustQuantity(this.ballControl.totalRecord = adjustToTime(this.ballControl.totalRecord, time));
-        
-        this.dribbling.successfulAttempts = adjustQuantity(this.dribbling.successRecord = adjustToTime(this.dribbling.successRecord, time));
-        this.dribbling.totalAttempts = adjustQuantity(this.dribbling.totalRecord = adjustToTime(this.dribbling.totalRecord, time));
-        
-        this.longFlankPass.successfulAttempts = adjustQuantity(this.longFlankPass.successRecord = adjustToTime(this.longFlankPass.successRecord, time));
-        this.longFlankPass.totalAttempts = adjustQuantity(this.longFlankPass.totalRecord = adjustToTime(this.longFlankPass.totalRecord, time));
-        
-        this.pass.successfulAttempts = adjustQuantity(this.pass.successRecord = adjustToTime(this.pass.successRecord, time));
-        this.pass.totalAttempts = adjustQuantity(this.pass.totalRecord = adjustToTime(this.pass.totalRecord, time));
+        this.liveRating = null; // Rated again from the remaining stats on the next reading
+        this.latestTime = Math.min(this.latestTime, time - 1);
         
-        this.areaPass.successfulAttempts = adjustQuantity(this.areaPass.successRecord = adjustToTime(this.areaPass.successRecord, time));
-        this.areaPass.totalAttempts = adjustQuantity(this.areaPass.totalRecord = adjustToTime(this.areaPass.totalRecord, time));
-        
-        this.runBall.successfulAttempts = adjustQuantity(this.runBall.successRecord = adjustToTime(this.runBall.successRecord, time));
-        this.runBall.totalAttempts = adjustQuantity(this.runBall.totalRecord = adjustToTime(this.runBall.totalRecord, time));
-        
-        this.lowCross.successfulAttempts = adjustQuantity(this.lowCross.successRecord = adjustToTime(this.lowCross.successRecord, time));
-        this.lowCross.totalAttempts = adjustQuantity(this.lowCross.totalRecord = adjustToTime(this.lowCross.totalRecord, time));
-        
-        this.cross.successfulAttempts = adjustQuantity(this.cross.successRecord = adjustToTime(this.cross.successRecord, time));
-        this.cross.totalAttempts = adjustQuantity(this.cross.totalRecord = adjustToTime(this.cross.totalRecord, time));
-        
-        this.shots.successfulAttempts = adjustQuantity(this.shots.successRecord = adjustToTime(this.shots.successRecord, time));
-        this.shots.totalAttempts = adjustQuantity(this.shots.totalRecord = adjustToTime(this.shots.totalRecord, time));
-        
-        this.headingsOnTarget.successfulAttempts = 
-            adjustQuantity(this.headingsOnTarget.successRecord = adjustToTime(this.headingsOnTarget.successRecord, time));
-        
-        this.headingsOnTarget.totalAttempts =
-            adjustQuantity(this.headingsOnTarget.totalRecord = adjustToTime(this.headingsOnTarget.totalRecord, time));
-        
-        this.personalChallenges.occurences = 
-            adjustQuantity(this.personalChallenges.occurenceRecord = adjustToTime(this.personalChallenges.occurenceRecord, time));
-        
-        this.interceptions.occurences = 
-            adjustQuantity(this.interceptions.occurenceRecord = adjustToTime(this.interceptions.occurenceRecord, time));
-        
-        this.saves.occurences = adjustQuantity(this.saves.occurenceRecord = adjustToTime(this.saves.occurenceRecord, time));
+        for (int category = 0; category < totals.length; category++) {
+            
+            totalRecords[category].truncate(time);
+            totals[category] = totalRecords[category].size();
+            
+            if (successRecords[category] != null) {
+                successRecords[category].truncate(time);
+                successes[category] = successRecords[category].size();
+            }
+        }
+    }
+    
+    /**
+     * Getter
+     * @param category A stats category
+     * @return The occurences of the stats category, or the total attempts if it is rated by percentage
+     */
+    public int getTotal(StatCategory category) {
+        return totals[category.getId()];
+    }
+    
+    /**
+     * Getter
+     * @param category A stats category rated by percentage
+     * @return The successful attempts of the stats category
+     */
+    public int getSuccessful(StatCategory category) {
+        return successes[category.getId()];
+    }
+    
+    /**
+     * Add a successful attempt of a stats category rated by percentage to the player's stats and record
+     * @param category The stats category
+     * @param time The virtual time of the attempt
+     */
+    public void registerSuccess(StatCategory category, int time) {
         
-        this.concedings.occurences = adjustQuantity(this.concedings.occurenceRecord = adjustToTime(this.concedings.occurenceRecord, time));
+        if (category.getRating() != StatCategory.Rating.PERCENTAGE) {
+            throw new IllegalArgumentException(category.getName() + " is not rated by percentage");
+        }
         
+        countSuccess(category.getId(), time);
+    }
+    
+    /**
+     * Add an unsuccessful attempt of a stats category rated by percentage to the player's stats and record
+     * @param category The stats category
+     * @param time The virtual time of the attempt
+     */
+    public void registerFailure(StatCategory category, int time) {
+        countOccurence(category.getId(), time);
     }
     
     /**
-     * Utility function for making the code a little more 'function-oriented': 
-     * @param statRecord The stats record ArrayList. Could have been any ArrayList for that matter
-     * @return The size of the ArrayList
+     * Add an occurence of a stats category to the player's stats and record
+     * @param category The stats category
+     * @param time The virtual time of the occurence
      */
-    private int adjustQuantity(ArrayList<Integer> statRecord) {
-        return statRecord.size();
+    public void addOccurence(StatCategory category, int time) {
+        countOccurence(category.getId(), time);
     }
     
     /**
-     * Adjust a specific statistic category to a specific time
-     * @param statsRecord The timeline of a specific statistic category
-     * @param time The virtual time from which the statistic category will not be taken into account
-     * @return The timeline of the statistic category up to a specific virtual time
+     * Add an occurence of a stats category to the player's stats and record
+     * @param category The stats category id
+     * @param time The virtual time of the occurence
      */
-    private ArrayList<Integer> adjustToTime(ArrayList<Integer> statsRecord, int time) {
+    private void countOccurence(int category, int time) {
         
-        ArrayList<Integer> retVal = new ArrayList<Integer>();
+        ++totals[category];
+        totalRecords[category].add(time);
         
-        for (Integer stat:statsRecord) {
-            if (stat < time) retVal.add(stat);
-        }
+        ratingChanged(category, time);
+    }
+    
+    /**
+     * Add a successful attempt of a stats category to the player's stats and record
+     * @param category The stats category id
+     * @param time The virtual time of the attempt
+     */
+    private void countSuccess(int category, int time) {
         
-        return retVal;
+        ++successes[category];
+        successRecords[category].add(time);
         
+        countOccurence(category, time);
     }
     
     /**
@@ -281,791 +207,321 @@ public class PlayerStats {
      */
     public double getRating(Team team, Player player) {
         
-        // System.out.println("Rating for player: " + player.getFamilyName());
-        
-        Double currentValue = null;
-        
-        double totalValue = 0;
-        double statsSize = 0;
-        
-        Tactics.TacticLine yPos = team.getPosYByPlayer(player);
-        Tactics.TacticPosition xPos = team.getPosXByPlayer(player);
-        
-        int posQualifier = 0;
-        // int surrogates = 0;
-        
-        // Gk Long Pass
-        currentValue = gkLongPass.getRating(RealWorldMapping.EXP_GkLongPass, 0);
-        
-        // System.out.println("Gk Long Pass: " + currentValue);
+        int [] posQualifiers = getPosQualifiers(team.getPosYByPlayer(player), team.getPosXByPlayer(player), false);
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_GkLongPass);
-            statsSize += (1 + RealWorldMapping.EVAL_GkLongPass);
-        }
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_LongPass_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_LongPass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        }
-        
-        // Long pass
-        currentValue = longPass.getRating(RealWorldMapping.EXP_LongPass, posQualifier);
-        
-        // System.out.println("Long pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_LongPass);
-            statsSize += (1 + RealWorldMapping.EVAL_LongPass);
-        }
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_ForwPass_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_ForwPass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        }
-        
-        // Forward pass
-        currentValue = forwardPass.getRating(RealWorldMapping.EXP_ForwardPass, posQualifier);
+        Double [] ratings = new Double[totals.length];
         
-        // System.out.println("Forward pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_ForwardPass);
-            statsSize += (1 + RealWorldMapping.EVAL_ForwardPass);
+        for (StatCategory category:StatCategories.getAll()) {
+            ratings[category.getId()] = getCategoryRating(category, posQualifiers[category.getId()]);
         }
         
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_FlankPass_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_FlankPass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        }
+        // A player without any stats category rated has always been rated NaN in the match
+        return getTotalRating(ratings, Double.NaN);
         
-        // Flank pass
-        currentValue = flankPass.getRating(RealWorldMapping.EXP_FlankPass, posQualifier);
+    }
+    
+    /**
+     * Calculate a player's rating in the match in a specific time point
+     * @param team The player's team
+     * @param player The player object
+     * @param time The virtual time point up to which the player's rating will be calculated
+     * @return The player's rating
+     */
+    public double getRating(Team team, Player player, int time) {
         
-        // System.out.println("Flank pass: " + currentValue);
+        int [] posQualifiers = getPosQualifiers(team.getPosYByPlayer(player), team.getPosXByPlayer(player), true);
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_FlankPass);
-            statsSize += (1 + RealWorldMapping.EVAL_FlankPass);
-        }
+        Double [] ratings = new Double[totals.length];
         
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_BallControl_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_BallControl_FOR;
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
+        for (StatCategory category:StatCategories.getAll()) {
+            ratings[category.getId()] = getCategoryRating(category, adjustThresholdToTime(posQualifiers[category.getId()], time), time);
         }
         
-        // Ball countrol
-        currentValue = ballControl.getRating(RealWorldMapping.EXP_BallControl, posQualifier);
+        return getTotalRating(ratings, -1);
         
-        // System.out.println("Ball control: " + currentValue);
+    }
+    
+    /**
+     * Get the player's rating in a specific time point, as it is kept up to date while the player's stats are registered. Only the stats 
+     * categories registered since the previous reading, or whose thresholds have changed with the time, are rated again, so that the live 
+     * ratings of the players can be read frequently throughout the match. 
+     * @param team The player's team
+     * @param player The player object
+     * @param time The virtual time point up to which the player's rating will be calculated
+     * @return The player's rating
+     * @see #getRating(Team, Player, int)
+     */
+    public double getLiveRating(Team team, Player player, int time) {
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_BallControl);
-            statsSize += (1 + RealWorldMapping.EVAL_BallControl);
-        }
+        Tactics.TacticLine yPos = team.getPosYByPlayer(player);
+        Tactics.TacticPosition xPos = team.getPosXByPlayer(player);
         
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_Pass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
+        // The thresholds of all stats categories change along with the player's position
+        if (liveRating == null || liveRating.yPos != yPos || liveRating.xPos != xPos) {
+            liveRating = new LiveRating(yPos, xPos);
         }
         
-        // Pass
-        currentValue = pass.getRating(RealWorldMapping.EXP_Pass, posQualifier);
-        
-        // System.out.println("Pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Pass);
-            statsSize += (1 + RealWorldMapping.EVAL_Pass);
-        }
+        return liveRating.getRating(time);
+    }
+    
+    /**
+     * Marks a stats category's rating as changed when a stat is registered for it
+     * @param category The stats category id
+     * @param time The virtual time of the stat
+     */
+    private void ratingChanged(int category, int time) {
         
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_RunBall_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_RunBall_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
+        if (time > latestTime) {
+            latestTime = time;
         }
         
-        // Run ball
-        currentValue = runBall.getRating(RealWorldMapping.EXP_RunBall, posQualifier);
-        
-        // System.out.println("Run ball: " + currentValue);
+        if (liveRating == null) return;
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_RunBall);
-            statsSize += (1 + RealWorldMapping.EVAL_RunBall);
-        }
+        liveRating.changed[category] = true;
         
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_LowCross_MID_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_LowCross_MID_F;
-            }
-            
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-            
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_LowCross_FOR_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_LowCross_FOR_F;
-            }
-            
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-            
+        // Goals scored from penalties are rated by subtracting the successful attempts at goal from the goals scored
+        if (category == StatCategories.SHOTS.getId() || category == StatCategories.HEADINGS.getId()) {
+            liveRating.changed[StatCategories.GOALS.getId()] = true;
         }
+    }
+    
+    /**
+     * Get the thresholds of the stats categories for a whole match according to the player's position
+     * @param yPos The player's tactic line
+     * @param xPos The player's tactic position
+     * @param current Whether the thresholds are used for a rating in a specific time point
+     * @return The thresholds indexed by stats category id
+     */
+    private static int [] getPosQualifiers(Tactics.TacticLine yPos, Tactics.TacticPosition xPos, boolean current) {
         
-        // Low cross
-        currentValue = lowCross.getRating(RealWorldMapping.EXP_LowCross, posQualifier);
-        
-        // System.out.println("Low cross: " + currentValue);
+        int [] posQualifiers = new int[StatCategories.size()];
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_LowCross);
-            statsSize += (1 + RealWorldMapping.EVAL_LowCross);
-        }
+        int posQualifier = 0;
         
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_DEF_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_DEF_F;
-            }
-            
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-            
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            
-            if (xPos == Tactics.TacticPosition.AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_C;
-            } else if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_F;
-            }
+        for (StatCategory category:StatCategories.getAll()) {
             
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
+            if (!category.isThresholded()) continue;
             
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
+            int threshold = category.getThreshold(yPos, xPos);
             
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_FOR_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_FOR_F;
+            // The rating in a specific time point takes the forwards' headings thresholds for every tactic line
+            if (current && category == StatCategories.HEADINGS) {
+                threshold = category.getThreshold(Tactics.TacticLine.FORWARD, xPos);
             }
             
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-            
-        }
-        
-        // Cross
-        currentValue = cross.getRating(RealWorldMapping.EXP_Cross, posQualifier);
-        
-        // System.out.println("Cross: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Cross);
-            statsSize += (1 + RealWorldMapping.EVAL_Cross);
-        }
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_SHOTS_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_SHOTS_FOR;
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-        }
-        
-        // Shots
-        currentValue = shots.getRating(1 / (RealWorldMapping.avgFinishing + RealWorldMapping.avgShooting + 1), posQualifier);
-        
-        // System.out.println("Shots: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Shots);
-            statsSize += (1 + RealWorldMapping.EVAL_Shots);
-        }
-        
-        if (yPos == Tactics.TacticLine.FORWARD) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_HEADINGS_FOR_CF;
-            } else if (xPos == Tactics.TacticPosition.RIGHT || xPos == Tactics.TacticPosition.LEFT) {
-                posQualifier = RealWorldMapping.THR_HEADINGS_FOR_C;
+            // A stats category without a threshold of its own for the position keeps the threshold of the previous one
+            if (threshold != StatCategory.NONE) {
+                posQualifier = threshold;
             }
             
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-            
-        }
-        
-        // Headings
-        currentValue = headingsOnTarget.getRating(1 / (RealWorldMapping.avgFinishing + RealWorldMapping.avgShooting + 1), posQualifier);
-        
-        // System.out.println("Headings: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Shots);
-            statsSize += (1 + RealWorldMapping.EVAL_Shots);
-        }
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_Dribbling_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_Dribbling_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_Dribbling_FOR;
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-        }
-        
-        // Dribbling
-        currentValue = dribbling.getRating(RealWorldMapping.EXP_Dribbling, posQualifier);
-        
-        // System.out.println("Dribbling: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-        }
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_LongFlankPass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        }
-        
-        // Long flank pass
-        currentValue = longFlankPass.getRating(RealWorldMapping.EXP_LongFlankPass, posQualifier);
-        
-        // System.out.println("Long flank pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-        }
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_AreaPass_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_AreaPass_FOR;
-            // surrogates = team.getNumberByTL(Constants.FORWARD);
-        }
-        
-        // Area pass
-        currentValue = areaPass.getRating(RealWorldMapping.EXP_AreaPass, posQualifier);
-        
-        // System.out.println("Area pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-        }
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_IndCh_DEF;
-            // surrogates = team.getNumberByTL(Constants.DEFENDER);
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_IndCh_MID;
-            // surrogates = team.getNumberByTL(Constants.MIDFIELDER);
-        }
-        
-        // Individual challenges
-        currentValue = personalChallenges.getRating(posQualifier);
-        
-        // System.out.println("Personal challenges: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-        }
-        
-        // Interceptions
-        currentValue = interceptions.getRating(0);
-        
-        // System.out.println("Interceptions: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-        }
-        
-        // Saves
-        currentValue = saves.getRating(0);
-        
-        // System.out.println("Saves: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_SAVES;
-            statsSize += RealWorldMapping.EVAL_SAVES;
-        }
-        
-        // Concedings
-        currentValue = concedings.getNegativeRating();
-        
-        // System.out.println("Concedings: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAl_CONCEDINGS;
-            statsSize += RealWorldMapping.EVAl_CONCEDINGS;
-        }
-        
-        // Penalties missed
-        currentValue = new UnitStats(this.penaltiesMissed).getNegativeRating();
-        
-        // System.out.println("Missed penalties: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTIES_MISSED;
-            statsSize += RealWorldMapping.EVAL_PENALTIES_MISSED;
+            posQualifiers[category.getId()] = posQualifier;
         }
         
-        // Penalties saved
-        currentValue = new UnitStats(this.penaltiesSaved).getRating(0);
-        
-        // System.out.println("Saved penalties: " + currentValue);
+        return posQualifiers;
         
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTIES_SAVED;
-            statsSize += RealWorldMapping.EVAL_PENALTIES_SAVED;
+    }
+    
+    /**
+     * Get a stats category's contribution to the player's rating in the match
+     * @param category The stats category
+     * @param posQualifier The threshold of the stats category
+     * @return The rating of the stats category, or null if it is not rated
+     */
+    private Double getCategoryRating(StatCategory category, int posQualifier) {
+        
+        int id = category.getId();
+        
+        switch (category.getRating()) {
+        case PERCENTAGE:
+            return getPercentageRating(category.getExpectedRate(), posQualifier, 1, successes[id], totals[id]);
+        case OCCURENCES:
+            return getOccurencesRating(posQualifier, totals[id]);
+        case NEGATIVE:
+            return getNegativeOccurencesRating(totals[id]);
+        case PENALTY_GOALS:
+            return getOccurencesRating(posQualifier, totals[id] - getAllShotsSucc());
+        default:
+            return null;
         }
-        
-        // Goals scored from penalties
-        currentValue = new UnitStats(this.goalsScored - this.getAllShotsSucc()).getRating(0);
-        
-        // System.out.println("Goals scored from penalties: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTY_GOALS;
-            statsSize += RealWorldMapping.EVAL_PENALTY_GOALS;
+    }
+    
+    /**
+     * Get a stats category's contribution to the player's rating in a specific time point
+     * @param category The stats category
+     * @param posQualifier The threshold of the stats category adjusted to the time point
+     * @param time The virtual time point up to which the stats category will be rated
+     * @return The rating of the stats category, or null if it is not rated
+     */
+    private Double getCategoryRating(StatCategory category, int posQualifier, int time) {
+        
+        int id = category.getId();
+        
+        // Headings are rated in a specific time point as in the whole match, taking the time as the number of surrogates, and saved 
+        // penalties are rated negatively
+        if (category == StatCategories.HEADINGS) {
+            return getPercentageRating(category.getExpectedRate(), posQualifier, time, successes[id], totals[id]);
+        } else if (category == StatCategories.PENALTIES_SAVED) {
+            return getNegativeOccurencesRating(totalRecords[id].countBefore(time));
+        }
+        
+        switch (category.getRating()) {
+        case PERCENTAGE:
+            return getCurrentPercentageRating(category.getExpectedRate(), posQualifier, 
+                    successRecords[id].countBefore(time), totalRecords[id].countBefore(time));
+        case OCCURENCES:
+            return getOccurencesRating(posQualifier, totalRecords[id].countBefore(time));
+        case NEGATIVE:
+            return getNegativeOccurencesRating(totalRecords[id].countBefore(time));
+        case PENALTY_GOALS:
+            return getOccurencesRating(posQualifier, totalRecords[id].countBefore(time) - getAllShotsSucc(time));
+        default:
+            return null;
         }
-        
-        return totalValue / statsSize;
-        
     }
     
     /**
-     * Calculate a player's rating in the match in a specific time point
-     * @param team The player's team
-     * @param player The player object
-     * @param time The virtual time point up to which the player's rating will be calculated
+     * Sum up the ratings of the stats categories to the player's rating
+     * @param ratings The ratings indexed by stats category id, null for the categories not rated
+     * @param unrated The player's rating if no stats category is rated
      * @return The player's rating
      */
-    public double getRating(Team team, Player player, int time) {
-        
-        // System.out.println("Calculating rating for player: " + player.getFamilyName());
-        
-        Double currentValue = null;
+    private static double getTotalRating(Double [] ratings, double unrated) {
         
         double totalValue = 0;
         double statsSize = 0;
         
-        Tactics.TacticLine yPos = team.getPosYByPlayer(player);
-        Tactics.TacticPosition xPos = team.getPosXByPlayer(player);
-        
-        int posQualifier = 0;
-        
-        boolean unrated = true;
-        
-        // Gk long pass
-        
-        currentValue = gkLongPass.getCurrentRating(RealWorldMapping.EXP_GkLongPass, 0, time);
-        
-        // System.out.println("Rating after goalkeeper long pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_GkLongPass);
-            statsSize += (1 + RealWorldMapping.EVAL_GkLongPass);
-            unrated = false;
-        }
-        
-        // Long pass
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_LongPass_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_LongPass_MID;
-        }
-        
-        currentValue = longPass.getCurrentRating(RealWorldMapping.EXP_LongPass, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after long pass: " + currentValue);
+        boolean isUnrated = true;
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_LongPass);
-            statsSize += (1 + RealWorldMapping.EVAL_LongPass);
-            unrated = false;
-        }
-        
-        // Forward pass
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_ForwPass_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_ForwPass_MID;
-        }
-        
-        currentValue = forwardPass.getCurrentRating(RealWorldMapping.EXP_ForwardPass, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after forward pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_ForwardPass);
-            statsSize += (1 + RealWorldMapping.EVAL_ForwardPass);
-            unrated = false;
-        }
-        
-        // Flank pass
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_FlankPass_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_FlankPass_MID;
-        }
-        
-        currentValue = flankPass .getCurrentRating(RealWorldMapping.EXP_FlankPass, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after flank pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_FlankPass);
-            statsSize += (1 + RealWorldMapping.EVAL_FlankPass);
-            unrated = false;
-        }
-        
-        // Ball control
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_BallControl_MID;
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_BallControl_FOR;
-        }
-        
-        currentValue = ballControl.getCurrentRating(RealWorldMapping.EXP_BallControl, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after ball control: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_BallControl);
-            statsSize += (1 + RealWorldMapping.EVAL_BallControl);
-            unrated = false;
+        for (StatCategory category:StatCategories.getAll()) {
+            
+            Double currentValue = ratings[category.getId()];
+            
+            if (currentValue != null) {
+                totalValue += currentValue * category.getWeight();
+                statsSize += category.getWeight();
+                isUnrated = false;
+            }
         }
         
-        // Pass
+        if (isUnrated) return unrated;
         
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_Pass_MID;
-        }
-        
-        currentValue = pass.getCurrentRating(RealWorldMapping.EXP_Pass, adjustThresholdToTime(posQualifier, time), time);
+        return totalValue / statsSize;
         
-        // System.out.println("Rating after pass: " + currentValue);
+    }
+    
+    /**
+     * Function for getting a percentage stat's contribution to the player's rating
+     * @param expectedRate The expected rate for the current statistic
+     * @param posQualifier The expected number of attempts for the current stat according to the player's position 
+     * @param surrogates The number of players playing in the same position (line) and effectively the number of players that could have helped 
+     * with the statistic
+     * @param successfulAttempts The successful attempts
+     * @param totalAttempts The total attempts
+     * @return The player's rating for the current stat category
+     */
+    private static Double getPercentageRating(double expectedRate, int posQualifier, int surrogates, int successfulAttempts, 
+            int totalAttempts) {
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Pass);
-            statsSize += (1 + RealWorldMapping.EVAL_Pass);
-            unrated = false;
+        if (posQualifier > totalAttempts && surrogates > 0) {
+            totalAttempts += Math.round((posQualifier - totalAttempts) / (double) surrogates);
         }
         
-        // Run ball
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_RunBall_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_RunBall_MID;
-        }
+        if (totalAttempts == 0) return null;
         
-        currentValue = runBall.getCurrentRating(RealWorldMapping.EXP_RunBall, adjustThresholdToTime(posQualifier, time), time);
+        double confidence = 
+            MathUtil.getWilsonScoreConfidence((double) successfulAttempts / (double) totalAttempts, MathUtil.NORMAL_CONFIDENCE, totalAttempts);
         
-        // System.out.println("Rating after run ball: " + currentValue);
+        return getExpectedRateRating(confidence, expectedRate);
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_RunBall);
-            statsSize += (1 + RealWorldMapping.EVAL_RunBall);
-            unrated = false;
-        }
+    }
+    
+    /**
+     * Function for getting a percentage stat's contribution to the player's rating in a specific time point
+     * @param expectedRate The expected rate for the current statistic
+     * @param posQualifier The expected number of attempts for the current stat according to the player's position, adjusted to the time point 
+     * @param successfulAttempts The successful attempts up to the time point
+     * @param totalAttempts The total attempts up to the time point
+     * @return The player's rating for the current stat category
+     */
+    private static Double getCurrentPercentageRating(double expectedRate, int posQualifier, int successfulAttempts, int totalAttempts) {
         
-        // Low cross
+        // Before adjusting with position qualifier, because the 'pure' number will be used in the calculations
+        if (totalAttempts == 0) return null;
         
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_LowCross_MID_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_LowCross_MID_F;
-            }
-            
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_LowCross_FOR_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_LowCross_FOR_F;
-            }
-            
-        }
+        int currentTotalAttempts = Math.max(totalAttempts, posQualifier);
         
-        currentValue = lowCross.getCurrentRating(RealWorldMapping.EXP_LowCross, adjustThresholdToTime(posQualifier, time), time);
+        double confidence = 
+            MathUtil.getWilsonScoreConfidence((double) successfulAttempts / (double) totalAttempts, MathUtil.NORMAL_CONFIDENCE, currentTotalAttempts);
         
-        // System.out.println("Rating after low cross: " + currentValue);
+        return getExpectedRateRating(confidence, expectedRate);
         
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_LowCross);
-            statsSize += (1 + RealWorldMapping.EVAL_LowCross);
-            unrated = false;
-        }
+    }
+    
+    /**
+     * Map the confidence of a percentage stat to the rating scale, around the expected rating for the expected rate
+     * @param confidence The Wilson score confidence of the success percentage
+     * @param expectedRate The expected rate for the current statistic
+     * @return The player's rating for the current stat category
+     */
+    private static double getExpectedRateRating(double confidence, double expectedRate) {
         
-        // Cross
+        double result = 0;
         
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_DEF_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_DEF_F;
-            }
+        if (confidence >= expectedRate) {
             
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
+            result = RealWorldMapping.expectedRating + 
+                ((confidence - expectedRate) / ((1 - expectedRate))) * (10.0 - RealWorldMapping.expectedRating);
             
-            if (xPos == Tactics.TacticPosition.AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_C;
-            } else if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_MID_F;
-            }
-            
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
+        } else {
             
-            if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-                posQualifier = RealWorldMapping.THR_Cross_FOR_CF;
-            } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-                posQualifier = RealWorldMapping.THR_Cross_FOR_F;
-            }
+            result = (RealWorldMapping.expectedRating * confidence) / expectedRate; 
             
         }
         
-        currentValue = cross.getCurrentRating(RealWorldMapping.EXP_Cross, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after cross: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Cross);
-            statsSize += (1 + RealWorldMapping.EVAL_Cross);
-            unrated = false;
-        }
-        
-        // Shots
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_SHOTS_MID;
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_SHOTS_FOR;
-        }
-        
-        currentValue = shots.getCurrentRating(1 / (RealWorldMapping.avgFinishing + RealWorldMapping.avgShooting + 1), 
-                adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after shots: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Shots);
-            statsSize += (1 + RealWorldMapping.EVAL_Shots);
-            unrated = false;
-        }
-        
-        // Headings
-        
-        if (xPos == Tactics.TacticPosition.LEFT_AXIS || xPos == Tactics.TacticPosition.RIGHT_AXIS) {
-            posQualifier = RealWorldMapping.THR_HEADINGS_FOR_CF;
-        } else if (xPos == Tactics.TacticPosition.LEFT || xPos == Tactics.TacticPosition.RIGHT) {
-            posQualifier = RealWorldMapping.THR_HEADINGS_FOR_C;
-        }
-        
-        currentValue = headingsOnTarget.getRating(1 / (RealWorldMapping.avgFinishing + RealWorldMapping.avgShooting + 1), 
-                adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after headings: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * (1 + RealWorldMapping.EVAL_Shots);
-            statsSize += (1 + RealWorldMapping.EVAL_Shots);
-            unrated = false;
-        }
-        
-        // Dribbling
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_Dribbling_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_Dribbling_MID;
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_Dribbling_FOR;
-        }
-        
-        currentValue = dribbling.getCurrentRating(RealWorldMapping.EXP_Dribbling, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after dribbling: " + currentValue);
-        
-        if (currentValue != null) { // Dribbling evaluation factor is one
-            totalValue += currentValue;
-            ++statsSize;
-            unrated = false;
-        }
-        
-        // Long flank pass
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_LongFlankPass_MID;
-        }
-        
-        currentValue = longFlankPass.getCurrentRating(RealWorldMapping.EXP_LongFlankPass, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after long flank pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-            unrated = false;
-        }
-        
-        // Area pass
-        
-        if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_AreaPass_MID;
-        } else if (yPos == Tactics.TacticLine.FORWARD) {
-            posQualifier = RealWorldMapping.THR_AreaPass_FOR;
-        }
-        
-        currentValue = areaPass.getCurrentRating(RealWorldMapping.EXP_AreaPass, adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after area pass: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-            unrated = false;
-        }
-        
-        // Individual challenges
-        
-        if (yPos == Tactics.TacticLine.DEFENDER) {
-            posQualifier = RealWorldMapping.THR_IndCh_DEF;
-        } else if (yPos == Tactics.TacticLine.MIDFIELDER) {
-            posQualifier = RealWorldMapping.THR_IndCh_MID;
-        }
-        
-        currentValue = personalChallenges.getCurrentRating(adjustThresholdToTime(posQualifier, time), time);
-        
-        // System.out.println("Rating after personal challenges: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-            unrated = false;
-        }
-        
-        // Interceptions
-        
-        currentValue = interceptions.getCurrentRating(0, time);
-        
-        // System.out.println("Rating after interceptions: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue;
-            ++statsSize;
-            unrated = false;
-        }
-        
-        // Saves
-        
-        currentValue = saves.getCurrentRating(0, time);
-        
-        // System.out.println("Rating after saves: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_SAVES;
-            statsSize += RealWorldMapping.EVAL_SAVES;
-            unrated = false;
-        }
-        
-        // Concedings
-        
-        currentValue = concedings.getNegativeRating(time);
-        
-        // System.out.println("Rating after concedings: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAl_CONCEDINGS;
-            statsSize += RealWorldMapping.EVAl_CONCEDINGS;
-            unrated = false;
-        }
-        
-        // Penalties missed
-        
-        int currentPenaltiesMissed = adjustToTime(this.penaltiesMissedRecord, time).size();
-        
-        currentValue = new UnitStats(currentPenaltiesMissed).getNegativeRating();
-        
-        // System.out.println("Rating after penalties missed: " + currentValue);
-        
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTIES_MISSED;
-            statsSize += RealWorldMapping.EVAL_PENALTIES_MISSED;
-            unrated = false;
-        }
+        if (result > 10.0) result = 10.0;
         
-        // Penalties saved
+        return result;
         
-        int currentPenaltiesSaved = adjustToTime(this.penaltiesSavedRecord, time).size();
+    }
+    
+    /**
+     * Rate the occurences of a "scalar" stats category
+     * @param posQualifier The number of expected occurences according to the player's position
+     * @param occurences The number of occurences
+     * @return The rating of the stats category
+     */
+    private static Double getOccurencesRating(int posQualifier, int occurences) {
         
-        currentValue = new UnitStats(currentPenaltiesSaved).getNegativeRating();
+        double successPerc = 1d;
+        int totalAttempts = occurences;
         
-        // System.out.println("Rating after penalties saved: " + currentValue);
+        if (occurences == 0 && posQualifier == 0) return null;
         
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTIES_SAVED;
-            statsSize += RealWorldMapping.EVAL_PENALTIES_SAVED;
-            unrated = false;
+        if (occurences < posQualifier) {
+            totalAttempts = posQualifier;
+            successPerc = occurences / (double) totalAttempts;
         }
         
-        // Goals scored from penalties
-        
-        int currentGoalsScored = adjustToTime(this.goalsRecord, time).size();
-        int currentSuccShots = this.getAllShotsSucc(time);
+        if (totalAttempts == 0) return null;
         
-        currentValue = new UnitStats(currentGoalsScored - currentSuccShots).getRating(0);
+        double confidence = MathUtil.getWilsonScoreConfidence(successPerc, MathUtil.NORMAL_CONFIDENCE, totalAttempts);
         
-        // System.out.println("Rating after goals scored from penalties: " + currentValue);
+        return confidence * 10;
         
-        if (currentValue != null) {
-            totalValue += currentValue * RealWorldMapping.EVAL_PENALTY_GOALS;
-            statsSize += RealWorldMapping.EVAL_PENALTY_GOALS;
-            unrated = false;
-        }
+    }
+    
+    /**
+     * Rate the occurences of a "scalar" stats category with negative effect on the player's rating
+     * @param occurences The number of occurences
+     * @return The negative rating of the stats category
+     */
+    private static Double getNegativeOccurencesRating(int occurences) {
         
-        // System.out.println("Total value: " + totalValue);
+        if (occurences == 0) return null;
         
-        if (unrated) return -1;
+        double confidence = MathUtil.getWilsonScoreConfidence(0, MathUtil.NORMAL_CONFIDENCE, occurences);
         
-        return totalValue / statsSize;
+        return confidence * 10;
         
     }
     
@@ -1074,13 +530,13 @@ public class PlayerStats {
      * @return The number of successful passes
      */
     public int getAllPassesSucc() {
-        return gkLongPass.getSuccessfulAttempts() + 
-                longPass.getSuccessfulAttempts() + 
-                forwardPass.getSuccessfulAttempts() +
-                flankPass.getSuccessfulAttempts() +
-                longFlankPass.getSuccessfulAttempts() +
-                pass.getSuccessfulAttempts() + 
-                areaPass.getSuccessfulAttempts();
+        return getSuccessful(StatCategories.GK_LONG_PASS) + 
+                getSuccessful(StatCategories.LONG_PASS) + 
+                getSuccessful(StatCategories.FORWARD_PASS) +
+                getSuccessful(StatCategories.FLANK_PASS) +
+                getSuccessful(StatCategories.LONG_FLANK_PASS) +
+                getSuccessful(StatCategories.PASS) + 
+                getSuccessful(StatCategories.AREA_PASS);
     }
     
     /**
@@ -1088,13 +544,13 @@ public class PlayerStats {
      * @return The number of total passes
      */
     public int getAllPassesTotal() {
-        return gkLongPass.getTotalAttempts() +
-                longPass.getTotalAttempts() +
-                forwardPass.getTotalAttempts() +
-                flankPass.getTotalAttempts() +
-                longFlankPass.getTotalAttempts() +
-                pass.getTotalAttempts() +
-                areaPass.getTotalAttempts();
+        return getTotal(StatCategories.GK_LONG_PASS) +
+                getTotal(StatCategories.LONG_PASS) +
+                getTotal(StatCategories.FORWARD_PASS) +
+                getTotal(StatCategories.FLANK_PASS) +
+                getTotal(StatCategories.LONG_FLANK_PASS) +
+                getTotal(StatCategories.PASS) +
+                getTotal(StatCategories.AREA_PASS);
     }
     
     /**
@@ -1102,7 +558,7 @@ public class PlayerStats {
      * @return The number of successful dribbles and instances keeping the ball control under pressure 
      */
     public int getAttPersonalChallengesSucc() {
-        return ballControl.getSuccessfulAttempts() + dribbling.getSuccessfulAttempts();
+        return getSuccessful(StatCategories.BALL_CONTROL) + getSuccessful(StatCategories.DRIBBLING);
     }
     
     /**
@@ -1110,7 +566,7 @@ public class PlayerStats {
      * @return The number of attempted dribbles and attempts to keep the ball control under pressure
      */
     public int getAttPersonalChallengesTotal() {
-        return ballControl.getTotalAttempts() + dribbling.getTotalAttempts();
+        return getTotal(StatCategories.BALL_CONTROL) + getTotal(StatCategories.DRIBBLING);
     }
     
     /**
@@ -1118,7 +574,7 @@ public class PlayerStats {
      * @return The number of successful crosses
      */
     public int getCrossesSucc() {
-        return cross.getSuccessfulAttempts() + lowCross.getSuccessfulAttempts();
+        return getSuccessful(StatCategories.CROSS) + getSuccessful(StatCategories.LOW_CROSS);
     }
     
     /**
@@ -1126,7 +582,7 @@ public class PlayerStats {
      * @return The number of attempted crosses
      */
     public int getCrossesTotal() {
-        return cross.getTotalAttempts() + lowCross.getTotalAttempts();
+        return getTotal(StatCategories.CROSS) + getTotal(StatCategories.LOW_CROSS);
     }
     
     /**
@@ -1134,7 +590,7 @@ public class PlayerStats {
      * @return The number of successful runs with the ball
      */
     public int getRunsSucc() {
-        return runBall.getSuccessfulAttempts();
+        return getSuccessful(StatCategories.RUN_BALL);
     }
     
     /**
@@ -1142,7 +598,7 @@ public class PlayerStats {
      * @return The number of total runs with the ball
      */
     public int getRunsTotal() {
-        return runBall.getTotalAttempts();
+        return getTotal(StatCategories.RUN_BALL);
     }
     
     /**
@@ -1150,7 +606,7 @@ public class PlayerStats {
      * @return The number of defending challenges won
      */
     public int getDefChallengesWon() {
-        return personalChallenges.getOccurences(); 
+        return getTotal(StatCategories.PERSONAL_CHALLENGES); 
     }
     
     /**
@@ -1158,7 +614,7 @@ public class PlayerStats {
      * @return The number of interceptions
      */
     public int getInterceptions() {
-        return interceptions.getOccurences();
+        return getTotal(StatCategories.INTERCEPTIONS);
     }
     
     /**
@@ -1166,7 +622,7 @@ public class PlayerStats {
      * @return The number of goalkeeper saves
      */
     public int getSaves() {
-        return saves.getOccurences();
+        return getTotal(StatCategories.SAVES);
     }
     
     /**
@@ -1174,7 +630,7 @@ public class PlayerStats {
      * @return The number of successful attempts at goal
      */
     public int getAllShotsSucc() {
-        return shots.getSuccessfulAttempts() + headingsOnTarget.getSuccessfulAttempts();
+        return getSuccessful(StatCategories.SHOTS) + getSuccessful(StatCategories.HEADINGS);
     }
     
     /**
@@ -1183,7 +639,7 @@ public class PlayerStats {
      * @return The number of successful attempts at goal
      */
     public int getAllShotsSucc(int time) {
-        return shots.getSuccessfulAttempts(time) + headingsOnTarget.getSuccessfulAttempts(time);
+        return successRecords[StatCategories.SHOTS.getId()].countBefore(time) + successRecords[StatCategories.HEADINGS.getId()].countBefore(time);
     }
     
     /**
@@ -1191,7 +647,7 @@ public class PlayerStats {
      * @return The number of total attempts at goal
      */
     public int getAllShotsTotal() {
-        return shots.getTotalAttempts() + headingsOnTarget.getTotalAttempts();
+        return getTotal(StatCategories.SHOTS) + getTotal(StatCategories.HEADINGS);
     }
     
     /**
@@ -1199,7 +655,7 @@ public class PlayerStats {
      * @return The number of goals scored
      */
     public int getGoals() {
-        return goalsScored;
+        return totals[StatCategories.GOALS.getId()];
     }
     
     /**
@@ -1207,8 +663,7 @@ public class PlayerStats {
      * @param time The virtual time of the goal being scored
      */
     public void addGoal(int time) {
-        ++goalsScored;
-        goalsRecord.add(time);
+        countOccurence(StatCategories.GOALS.getId(), time);
     }
     
     /**
@@ -1216,7 +671,7 @@ public class PlayerStats {
      * @return The number of missed penalties
      */
     public int getPenaltiesMissed() {
-        return this.penaltiesMissed;
+        return totals[StatCategories.PENALTIES_MISSED.getId()];
     }
     
     /**
@@ -1224,8 +679,7 @@ public class PlayerStats {
      * @param timer The virtual time of the missed penalty
      */
     public void addPenaltiesMissed(int timer) {
-        this.penaltiesMissed++;
-        penaltiesMissedRecord.add(timer);
+        countOccurence(StatCategories.PENALTIES_MISSED.getId(), timer);
     }
     
     /**
@@ -1233,7 +687,7 @@ public class PlayerStats {
      * @return The number of saved penalties
      */
     public int getPenaltiesSaved() {
-        return this.penaltiesSaved;
+        return totals[StatCategories.PENALTIES_SAVED.getId()];
     }
     
     /**
@@ -1241,307 +695,68 @@ public class PlayerStats {
      * @param timer The virtual time of the penalty save
      */
     public void addPenaltiesSaved(int timer) {
-        this.penaltiesSaved++;
-        penaltiesSavedRecord.add(timer);
+        countOccurence(StatCategories.PENALTIES_SAVED.getId(), timer);
     }
     
+    
     /**
      * 
-     * This class is used for the player stats that have an success/total attempts element
+     * This class keeps the ratings of the stats categories between readings of the player's live rating
      *
      */
     
-    public class PercStats {
-        
-        private int successfulAttempts = 0;
-        private int totalAttempts = 0;
-        
-        private ArrayList<Integer> successRecord = new ArrayList<Integer>();
-        private ArrayList<Integer> totalRecord = new ArrayList<Integer>();
-        
-        /**
-         * Add a successful occurence to the player's stats and record
-         * @param time The virtual time of the occurence
-         */
-        public void registerSuccess(int time) {
-            
-            ++successfulAttempts;
-            ++totalAttempts;
-            
-            successRecord.add(time);
-            totalRecord.add(time);
-            
-        }
-        
-        /**
-         * Add an unsuccessful attempt to the player's stats and record
-         * @param time The virtual time of the attempt
-         */
-        public void registerFailure(int time) {
-            
-            ++totalAttempts;
-            totalRecord.add(time);
-        }
-        
-        public int getTotalAttempts() {
-            return totalAttempts;
-        }
-        
-        public int getSuccessfulAttempts() {
-            return successfulAttempts;
-        }
+    private class LiveRating {
         
-        public int getSuccessfulAttempts(int time) {
-            
-            return adjustToTime(this.successRecord, time).size();
-            
-        }
+        private Tactics.TacticLine yPos;
+        private Tactics.TacticPosition xPos;
         
-        public double getSuccPerc() {
-            return (double) successfulAttempts / (double) totalAttempts;
-        }
+        private int [] posQualifiers;
         
-        /**
-         * Get the success percentage in the stats category in reference to a specific point in virtual time
-         * @param time The virtual time point of sampling the success percentage
-         * @return The success percentage
-         */
-        public double getSuccPerc(int time) {
-            
-            int currentSuccessfulAttempts = adjustToTime(successRecord, time).size();
-            int currentTotalAttempts = adjustToTime(totalRecord, time).size();
-            
-            return (double) currentSuccessfulAttempts / (double) currentTotalAttempts;
-            
-        }
+        private int time = -1; // The virtual time of the previous reading
+        private boolean complete; // Whether all stats registered were earlier than the previous reading
         
-        /**
-         * Default function for getting the current stat's contribution to the player's rating
-         * @param expectedRate The expected rate for the current statistic
-         * @param posQualifier The expected number of attempts for the current stat according to the player's position 
-         * @return The player's rating for the current stat category
-         * @see #getRating(double, int, int)
-         */
-        public Double getRating(double expectedRate, int posQualifier) {
-            return getRating(expectedRate, posQualifier, 1);
-        }
+        private int [] thresholds = new int[StatCategories.size()];
+        private Double [] ratings = new Double[StatCategories.size()];
+        private boolean [] changed = new boolean[StatCategories.size()];
         
-        /**
-         * Function for getting the current stat's contribution to the player's rating
-         * @param expectedRate The expected rate for the current statistic
-         * @param posQualifier The expected number of attempts for the current stat according to the player's position 
-         * @param surrogates The number of players playing in the same position (line) and effectively the number of players that could have helped 
-         * with the statistic. Can be used to better approximate the effect of lack of expected attempts to the team's performance. For the time being
-         * it is not really taken into account as it makes things more complicated (for instance, when tactics change throughout the match) 
-         * @return The player's rating for the current stat category
-         */
-        public Double getRating(double expectedRate, int posQualifier, int surrogates) {
-            
-            int initTotalAttempts = this.totalAttempts;
-            
-            if (posQualifier > totalAttempts && surrogates > 0) {
-                totalAttempts += Math.round((posQualifier - totalAttempts) / (double) surrogates);
-                // System.out.println("Total attempts corrected: " + totalAttempts);
-            }
-            
-            if (totalAttempts == 0) return null;
-            
-            double confidence = 
-                MathUtil.getWilsonScoreConfidence(getSuccPerc(), MathUtil.NORMAL_CONFIDENCE, totalAttempts);
-            
-            double result = 0;
-            
-            if (confidence >= expectedRate) {
-            
-                result = RealWorldMapping.expectedRating + 
-                    ((confidence - expectedRate) / ((1 - expectedRate))) * (10.0 - RealWorldMapping.expectedRating);
-                
-            } else {
-                
-               result = (RealWorldMapping.expectedRating * confidence) / expectedRate; 
-                
-            }
-            
-            if (result > 10.0) result = 10.0;
-            
-            this.totalAttempts = initTotalAttempts; // After finishing with calculations bring back total attempts to their real value
+        public LiveRating(Tactics.TacticLine yPos, Tactics.TacticPosition xPos) {
             
-            return result;
+            this.yPos = yPos;
+            this.xPos = xPos;
+            this.posQualifiers = getPosQualifiers(yPos, xPos, true);
             
+            Arrays.fill(changed, true);
         }
         
         /**
-         * Function for getting the current stat's contribution to the player's rating
-         * @param expectedRate The expected rate for the current statistic
-         * @param posQualifier The expected number of attempts for the current stat according to the player's position 
-         * @param time The virtual time point from which the statistics are sampled
-         * @return The player's rating for the current stat category
+         * 
+         * @param time The virtual time point up to which the player's rating will be calculated
+         * @return The player's rating
          */
-        public Double getCurrentRating(double expectedRate, int posQualifier, int time) {
-            
-            double result = 0;
-            
-            int currentTotalAttempts = adjustToTime(totalRecord, time).size();
-            
-            if (currentTotalAttempts == 0) return null; // Before adjusting with position qualifier, because the 'pure' number will be used in the calculations
+        public double getRating(int time) {
             
-            if (posQualifier > currentTotalAttempts) {
-                currentTotalAttempts += Math.round(posQualifier - currentTotalAttempts);
+            // Going back in time, or past stats left out of the previous reading, changes stats categories not marked as changed
+            if (time < this.time || (time > this.time && !complete)) {
+                Arrays.fill(changed, true);
             }
             
-            if (currentTotalAttempts == 0) return null;
-            
-            // System.out.println("Current total attempts: " + currentTotalAttempts);
-            // System.out.println("Current success percentage: " + getSuccPerc(time));
-            
-            double confidence = 
-                MathUtil.getWilsonScoreConfidence(getSuccPerc(time), MathUtil.NORMAL_CONFIDENCE, currentTotalAttempts);
-            
-            // System.out.println("Confidence: " + confidence);
-            // System.out.println("Expected rate: " + expectedRate);
-            
-            if (confidence >= expectedRate) {
+            for (StatCategory category:StatCategories.getAll()) {
                 
-                result = RealWorldMapping.expectedRating + 
-                    ((confidence - expectedRate) / ((1 - expectedRate))) * (10.0 - RealWorldMapping.expectedRating);
-                
-            } else {
-            
-                result = (RealWorldMapping.expectedRating * confidence) / expectedRate; 
+                int id = category.getId();
+                int threshold = adjustThresholdToTime(posQualifiers[id], time);
                 
+                // Headings are rated with the time itself, besides their threshold
+                if (changed[id] || threshold != thresholds[id] || (category == StatCategories.HEADINGS && time != this.time)) {
+                    ratings[id] = getCategoryRating(category, threshold, time);
+                    thresholds[id] = threshold;
+                    changed[id] = false;
+                }
             }
             
-            if (result > 10.0) result = 10.0;
-            
-            return result;
-            
-        }
-        
-    }
-    
-    /**
-     * 
-     * This class is used for the player stats that are "scalar", i.e. the player is evaluated based on just their cardinality 
-     *
-     */
-    
-    public class UnitStats {
-        
-        private int occurences = 0;
-        
-        private ArrayList<Integer> occurenceRecord = new ArrayList<Integer>();
-        
-        /**
-         * Add an occurence to the player's stats and record
-         * @param time The occurence's virtual time
-         */
-        public void addOccurence(int time) {
-            ++occurences;
-            occurenceRecord.add(time);
-        }
-        
-        public int getOccurences() {
-            return occurences;
-        }
-        
-        public UnitStats(int occurences) {
-            this.occurences = occurences;
-        }
-        
-        public UnitStats() {}
-        
-        /**
-         * Function for getting the current stat's contribution to the player's rating
-         * @param posQualifier The number of expected occurences according to the player's position
-         * @return The player's rating for the current stat category 
-         */
-        public Double getRating(int posQualifier) {
-            return getRating(posQualifier, 1);
-        }
-        
-        /**
-         * Function for getting the current stat's contribution to the player's rating taking into account the team's tactic
-         * @param posQualifier The number of expected occurences according to the player's position
-         * @param surrogates The number of players playing in the same position (line) and effectively the number of players that could have helped 
-         * with the statistic. 
-         * @return The player's rating for the current stat category
-         * @see #getRating(int)
-         * @see PercStats#getRating(double, int, int)
-         */
-        public Double getRating(int posQualifier, int surrogates) {
-            
-            double successPerc = 1d;
-            int totalAttempts = occurences;
-            
-            if (occurences == 0 && posQualifier == 0) return null;
-            
-            if (occurences < posQualifier && surrogates > 0) {
-                totalAttempts = occurences + Math.round((posQualifier - occurences) / (float) surrogates);
-                successPerc = occurences / (double) totalAttempts;
-                
-                // System.out.println("Total attempts corrected: " + totalAttempts); 
-            }
-            
-            if (totalAttempts == 0) return null;
-            
-            double confidence = MathUtil.getWilsonScoreConfidence(successPerc, MathUtil.NORMAL_CONFIDENCE, totalAttempts);
-            
-            return confidence * 10;
-            
-        }
-        
-        public Double getCurrentRating(int posQualifier, int time) {
-            
-            double successPerc = 1d;
-            int currentOccurences  = adjustToTime(this.occurenceRecord, time).size();
-            int totalAttempts = currentOccurences;
-            
-            if (currentOccurences == 0 && posQualifier == 0) return null;
-            
-            if (currentOccurences < posQualifier) {
-                totalAttempts = posQualifier;
-                successPerc = currentOccurences / (double) totalAttempts;
-            }
-            
-            if (totalAttempts == 0) return null;
-            
-            double confidence = MathUtil.getWilsonScoreConfidence(successPerc, MathUtil.NORMAL_CONFIDENCE, totalAttempts);
-            
-            return confidence * 10;
-            
-        }
-        
-        /**
-         * 
-         * @return The negative rating of this statistic contributing to the total player's rating. This is used for some statistics categories
-         * that have negative effect on a player's total rating, like penalties missed
-         */
-        public Double getNegativeRating() {
-            
-            if (occurences == 0) return null;
-            
-            double confidence = MathUtil.getWilsonScoreConfidence(0, MathUtil.NORMAL_CONFIDENCE, occurences);
-            
-            return confidence * 10;
-            
-        }
-        
-        /**
-         * Calculates the negative rating of this statistic contributing to the total player's rating in a specific virtual time
-         * @param time The virtual time point up to which the negative rating will be calculated
-         * @return The negative rating
-         * @see getNegativeRating()
-         */
-        public Double getNegativeRating(int time) {
-            
-            int currentOccurences = adjustToTime(this.occurenceRecord, time).size();
-            
-            if (currentOccurences == 0) return null;
-            
-            double confidence = MathUtil.getWilsonScoreConfidence(0, MathUtil.NORMAL_CONFIDENCE, currentOccurences);
-            
-            return confidence * 10;
+            this.time = time;
+            this.complete = latestTime < time;
             
+            return getTotalRating(ratings, -1);
         }
     }
 }
@@ -0,0 +1,1008 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.zip.CRC32;
+
+import representation.Challenge;
+import representation.Instant;
+import representation.Opponent;
+import representation.Outcome;
+import representation.ResultState;
+import representation.Success;
+import utility.AliasTable;
+
+/**
+ * The probability model, stored in columns: each field of the model records is held in an array of its own, indexed by the row of the
+ * record. Identical records are stored once, as a row weighted by the number of records it stands for. A model is immutable once it has been loaded, so it is cached by the
+ * {@link ProbModelRegistry} and shared by all the matches based on it.
+ * The engine looks up the candidate rows of each state in indexes built at load time and only creates the instant of the selected row.
+ * <p>
+ * A model is read either from the raw probability model file (a sequence of {@link Constants#REC_SIZE} byte records) or from a compiled
+ * model file, written by {@link ProbModelCompiler}, which holds the distinct rows along with their indexes and is read without any
+ * transformation. The compiled format is a header (magic number, format version, record count, row count and the CRC32 checksum of the
+ * rest of the file) followed by the columns, the row weights and the indexes.
+ *
+ * @author Andreas Tasoulas
+ *
+ */
+
+public final class ProbModel {
+
+    private static final int X_VALUES = State.X.values().length;
+    private static final int Y_VALUES = State.Y.values().length;
+    private static final int PRESSURE_VALUES = State.Pressure.values().length;
+
+    private static final int SELECTORS = OOConstants.GOAL_OPPORTUNITY_CROSS + 1;
+
+    // Outcome kinds
+    static final byte OUTCOME_NONE = 0;
+    static final byte OUTCOME_SUCCESS = 1;
+    static final byte OUTCOME_OPPONENT = 2;
+    static final byte OUTCOME_CHALLENGE = 3;
+
+    // Columns
+    static final int COL_Y = 0;
+    static final int COL_X = 1;
+    static final int COL_PRESSURE = 2;
+    static final int COL_ACTION = 3;
+    static final int COL_RES_Y = 4;
+    static final int COL_RES_X = 5;
+    static final int COL_RES_PRESSURE = 6;
+    static final int COL_OUTCOME = 7;
+    static final int COL_CONDITION = 8;
+    static final int COL_POSSESSION_CHANGE = 9;
+    static final int COL_CH_START_TEAM = 10;
+    static final int COL_CH_START_Y = 11;
+    static final int COL_CH_END_TEAM = 12;
+    static final int COL_CH_ENDING = 13;
+    static final int COL_CH_TYPE = 14;
+    static final int COL_ROW_ID = 15;
+
+    static final int COLUMNS = 16;
+
+    // Compiled model format
+    static final int COMPILED_MAGIC = 0x4F46504D; // "OFPM"
+    static final int COMPILED_VERSION = 1;
+    static final int COMPILED_HEADER_SIZE = 24;
+
+    private final String filename;
+    private final boolean complete;
+    private final int size;
+    private final int records;
+    private final long memorySize;
+
+    // The number of model records each row stands for
+    private final int [] weights;
+
+    private final byte [] y;
+    private final byte [] x;
+    private final byte [] pressure;
+    private final byte [] action;
+    private final byte [] resY;
+    private final byte [] resX;
+    private final byte [] resPressure;
+    private final byte [] outcome;
+    private final byte [] condition;
+    private final byte [] possessionChange;
+    private final byte [] challengeStartTeam;
+    private final byte [] challengeStartY;
+    private final byte [] challengeEndTeam;
+    private final byte [] challengeEnding;
+    private final byte [] challengeType;
+    private final byte [] rowId;
+
+    // The candidate rows for each state and for a goalkeeper or an outfield player in possession
+    private final CandidateSet [] stateIndex;
+
+    // The instant key (Y, X, Pressure, Action) of each row
+    private final int [] instantKeys;
+
+    // The matching rows for each instant key, selector and pressure of the ball holder
+    private final CandidateSet [][][] selectorIndex;
+
+    // The matching crosses for each instant key and selector
+    private final CandidateSet [][] crossIndex;
+
+    private ProbModel(String filename, byte [][] columns, int [] weights, boolean complete) {
+        this(filename, columns, weights, complete, null, null, null, null);
+    }
+
+    /**
+     * 
+     * @param filename The probability model filename
+     * @param columns The model columns
+     * @param weights The weight of each row
+     * @param complete False if the model file could not be read completely
+     * @param stateIndex The prebuilt state index; built from the columns if null, along with the rest of the indexes
+     * @param instantKeys The prebuilt instant keys
+     * @param selectorIndex The prebuilt selector index
+     * @param crossIndex The prebuilt cross index
+     */
+    private ProbModel(String filename, byte [][] columns, int [] weights, boolean complete, CandidateSet [] stateIndex, int [] instantKeys,
+            CandidateSet [][][] selectorIndex, CandidateSet [][] crossIndex) {
+
+        this.filename = filename;
+        this.complete = complete;
+        this.size = columns[COL_Y].length;
+        this.weights = weights;
+
+        int records = 0;
+
+        for (int row = 0; row < size; row++) {
+            records += weights[row];
+        }
+
+        this.records = records;
+
+        this.y = columns[COL_Y];
+        this.x = columns[COL_X];
+        this.pressure = columns[COL_PRESSURE];
+        this.action = columns[COL_ACTION];
+        this.resY = columns[COL_RES_Y];
+        this.resX = columns[COL_RES_X];
+        this.resPressure = columns[COL_RES_PRESSURE];
+        this.outcome = columns[COL_OUTCOME];
+        this.condition = columns[COL_CONDITION];
+        this.possessionChange = columns[COL_POSSESSION_CHANGE];
+        this.challengeStartTeam = columns[COL_CH_START_TEAM];
+        this.challengeStartY = columns[COL_CH_START_Y];
+        this.challengeEndTeam = columns[COL_CH_END_TEAM];
+        this.challengeEnding = columns[COL_CH_ENDING];
+        this.challengeType = columns[COL_CH_TYPE];
+        this.rowId = columns[COL_ROW_ID];
+
+        if (stateIndex != null) {
+            this.stateIndex = stateIndex;
+            this.instantKeys = instantKeys;
+            this.selectorIndex = selectorIndex;
+            this.crossIndex = crossIndex;
+        } else {
+            this.stateIndex = buildStateIndex();
+            this.instantKeys = new int[size];
+            int keys = buildInstantKeys();
+            this.selectorIndex = buildSelectorIndex(keys);
+            this.crossIndex = buildCrossIndex(keys);
+        }
+
+        this.memorySize = estimateMemorySize();
+    }
+
+    /**
+     * Returns the current version of the probability model read from a file, through its shared {@link ProbModelHandle}. The file is read
+     * and transformed the first time it is requested, and again only if it has been modified or its model has been evicted from the registry.
+     * @param filename The probability model filename
+     * @return The probability model
+     */
+    public static ProbModel getInstance(String filename) {
+        return ProbModelHandle.forFile(filename).acquire();
+    }
+
+    public String getFilename() {
+        return this.filename;
+    }
+
+    /**
+     *
+     * @return False if the model file could not be read completely
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     *
+     * @return The number of distinct rows of the model
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     *
+     * @return The number of records of the model file the rows stand for
+     */
+    public int getRecordCount() {
+        return this.records;
+    }
+
+    /**
+     *
+     * @return The estimated number of bytes the model columns and indexes take up in memory
+     */
+    public long getMemorySize() {
+        return this.memorySize;
+    }
+
+    private long estimateMemorySize() {
+
+        // Columns, weights and instant keys
+        long memory = (long) size * (COLUMNS + 8);
+
+        // References of the index arrays
+        memory += 4L * (stateIndex.length + selectorIndex.length * SELECTORS * 3);
+
+        // Candidate sets are shared between index entries, so each one is counted once
+        IdentityHashMap<CandidateSet, CandidateSet> counted = new IdentityHashMap<CandidateSet, CandidateSet>();
+
+        for (CandidateSet candidates:stateIndex) {
+            memory += getMemorySize(candidates, counted);
+        }
+
+        for (int key = 0; key < selectorIndex.length; key++) {
+            for (int selector = 0; selector < SELECTORS; selector++) {
+                memory += getMemorySize(selectorIndex[key][selector][0], counted);
+                memory += getMemorySize(selectorIndex[key][selector][1], counted);
+                memory += getMemorySize(crossIndex[key][selector], counted);
+            }
+        }
+
+        return memory;
+    }
+
+    private static long getMemorySize(CandidateSet candidates, IdentityHashMap<CandidateSet, CandidateSet> counted) {
+
+        if (counted.put(candidates, candidates) != null) {
+            return 0;
+        }
+
+        // Rows, plus the probability and alias columns of the distribution
+        long memory = 4L * candidates.rows.length;
+
+        if (candidates.getDistribution() != null) {
+            memory += 12L * candidates.rows.length;
+        }
+
+        return memory;
+    }
+
+    /**
+     *
+     * @param row The row
+     * @return The number of model records the row stands for
+     */
+    public int getWeight(int row) {
+        return weights[row];
+    }
+
+    /**
+     * Creates the instant of a row. Instants are created on demand and are not kept by the model.
+     * @param row The row
+     * @return The instant
+     */
+    public Instant getInstant(int row) {
+
+        ResultState resultState = new ResultState(resX[row], resY[row], resPressure[row]);
+
+        Outcome rowOutcome = null;
+
+        switch (outcome[row]) {
+        case OUTCOME_SUCCESS:
+            rowOutcome = new Success(condition[row]);
+            break;
+        case OUTCOME_OPPONENT:
+            rowOutcome = new Opponent(condition[row], possessionChange[row]);
+            break;
+        case OUTCOME_CHALLENGE:
+            rowOutcome = new Challenge(challengeStartTeam[row], challengeStartY[row], challengeEndTeam[row], resY[row], resX[row],
+                                       challengeEnding[row], challengeType[row]);
+            break;
+        }
+
+        return new Instant(y[row], x[row], pressure[row], action[row], resultState, rowOutcome, rowId[row], row);
+    }
+
+    /**
+     * Returns the rows that may follow a match state, i.e. the rows starting from this state with an action allowed to the player
+     * in possession
+     * @param state The current state
+     * @return The candidate rows
+     */
+    CandidateSet getCandidateInstants(State state) {
+        return stateIndex[getStateKey(state.getX(), state.getY(), state.getPressure(), state.getPlayer().getPosition() == Constants.GK)];
+    }
+
+    /**
+     * Returns the rows sharing the initial state and action of an instant, whose outcome is classified by the selector. If there are
+     * none, the candidates of the generic case the selector falls back to are returned.
+     * @param instant The instant
+     * @param selector The classification of the outcome
+     * @param pressed True if the holder of the ball is under pressing
+     * @return The candidate rows; none if the instant itself should be kept
+     */
+    CandidateSet getMatchingInstants(Instant instant, int selector, boolean pressed) {
+        return selectorIndex[instantKeys[instant.row]][selector][pressed ? 1 : 0];
+    }
+
+    /**
+     * Returns the 'cross' rows sharing the initial state and action of an instant, whose outcome is classified by the selector. If
+     * there are none, the candidates of the generic case the selector falls back to are returned.
+     * @param instant The instant
+     * @param selector The classification of the outcome
+     * @return The candidate rows; none if the instant itself should be kept
+     */
+    CandidateSet getMatchingCrosses(Instant instant, int selector) {
+        return crossIndex[instantKeys[instant.row]][selector];
+    }
+
+    private static int getStateKey(State.X x, State.Y y, State.Pressure pressure, boolean goalkeeper) {
+        return ((x.ordinal() * Y_VALUES + y.ordinal()) * PRESSURE_VALUES + pressure.ordinal()) * 2 + (goalkeeper ? 1 : 0);
+    }
+
+    /**
+     * Indexes the rows of the model by the state they start from
+     * @return The candidate rows of each state key
+     */
+    private CandidateSet [] buildStateIndex() {
+
+        CandidateSet [] stateIndex = new CandidateSet[X_VALUES * Y_VALUES * PRESSURE_VALUES * 2];
+
+        int [] candidates = new int[size];
+
+        for (State.X stateX:State.X.values()) {
+            for (State.Y stateY:State.Y.values()) {
+                for (State.Pressure statePressure:State.Pressure.values()) {
+                    for (int gk = 0; gk < 2; gk++) {
+
+                        int position = (gk == 1) ? Constants.GK : Constants.DEFENDER;
+                        int count = 0;
+
+                        for (int row = 0; row < size; row++) {
+                            if (stateX.matchValue(x[row]) && stateY.matchValue(y[row]) && statePressure.matchValue(pressure[row]) &&
+                                    actionAllowed(action[row], position)) {
+                                candidates[count++] = row;
+                            }
+                        }
+
+                        int [] stateCandidates = new int[count];
+                        System.arraycopy(candidates, 0, stateCandidates, 0, count);
+
+                        stateIndex[getStateKey(stateX, stateY, statePressure, gk == 1)] = new CandidateSet(stateCandidates, weights, true);
+                    }
+                }
+            }
+        }
+
+        return stateIndex;
+    }
+
+    /**
+     * Assigns to each row the id of its instant key, i.e. of its initial state and action
+     * @return The number of distinct instant keys
+     */
+    private int buildInstantKeys() {
+
+        HashMap<Integer, Integer> keyIds = new HashMap<Integer, Integer>();
+
+        for (int row = 0; row < size; row++) {
+
+            Integer key = ((y[row] & 0xFF) << 24) | ((x[row] & 0xFF) << 16) | ((pressure[row] & 0xFF) << 8) | (action[row] & 0xFF);
+            Integer keyId = keyIds.get(key);
+
+            if (keyId == null) {
+                keyId = keyIds.size();
+                keyIds.put(key, keyId);
+            }
+
+            instantKeys[row] = keyId;
+        }
+
+        return keyIds.size();
+    }
+
+    /**
+     * Classifies the outcome of a row
+     * @param row The row
+     * @param selector The classification of the outcome
+     * @param excludeFouls True if successful outcomes resulting to a foul are not classified as successful
+     * @return True if the outcome of the row is classified by the selector
+     */
+    private boolean selectorMatched(int row, int selector, boolean excludeFouls) {
+
+        switch (selector) {
+        case OOConstants.OPPOSITION:
+            return (outcome[row] == OUTCOME_OPPONENT);
+        case OOConstants.SUCC_CH:
+            return ((outcome[row] == OUTCOME_SUCCESS || outcome[row] == OUTCOME_CHALLENGE) &&
+                    !(excludeFouls && isResultFoul(condition[row])));
+        case OOConstants.PASS_INTERCEPTION:
+            return (outcome[row] == OUTCOME_OPPONENT && possessionChange[row] == Constants.BPC_PassInterception);
+        case OOConstants.MAN_CHALLENGE_LOST:
+            return (outcome[row] == OUTCOME_OPPONENT && possessionChange[row] == Constants.BPC_ManChallengeLost);
+        case OOConstants.UNFORCED_POSSESSION_CHANGE:
+            return (outcome[row] == OUTCOME_OPPONENT && possessionChange[row] == Constants.BPC_Normal);
+        case OOConstants.GK_INTERCEPTION:
+            return (outcome[row] == OUTCOME_OPPONENT && possessionChange[row] == Constants.BPC_Gk);
+        }
+
+        return false;
+    }
+
+    private static boolean isResultFoul(byte result) {
+        return (result == Constants.RES_Foul_Tackling || result == Constants.RES_Foul);
+    }
+
+    /**
+     * The selectors of the most generic cases, which keep the initial instant when there are no candidates
+     */
+    private static boolean isGenericSelector(int selector) {
+        return (selector == OOConstants.OPPOSITION || selector == OOConstants.SUCC_CH);
+    }
+
+    /**
+     * Collects the rows of each instant key matching a selector
+     * @param keys The number of distinct instant keys
+     * @param selector The classification of the outcome; all rows of a key match if negative
+     * @param excludeFouls True if successful outcomes resulting to a foul are not classified as successful
+     * @return The matching rows of each key, in model order
+     */
+    private int [][] collectMatching(int keys, int selector, boolean excludeFouls) {
+
+        int [] counts = new int[keys];
+
+        for (int row = 0; row < size; row++) {
+            if (selector < 0 || selectorMatched(row, selector, excludeFouls)) {
+                counts[instantKeys[row]]++;
+            }
+        }
+
+        int [][] matching = new int[keys][];
+
+        for (int key = 0; key < keys; key++) {
+            matching[key] = new int[counts[key]];
+            counts[key] = 0;
+        }
+
+        for (int row = 0; row < size; row++) {
+            if (selector < 0 || selectorMatched(row, selector, excludeFouls)) {
+                matching[instantKeys[row]][counts[instantKeys[row]]++] = row;
+            }
+        }
+
+        return matching;
+    }
+
+    /**
+     * Builds the lookup used for matching instants. As all the rows sharing a key share its pressure, the pressure of the ball holder
+     * does not change the candidates; it only decides whether they are an exact match.
+     */
+    private CandidateSet [][][] buildSelectorIndex(int keys) {
+
+        CandidateSet [][][] selectorIndex = new CandidateSet[keys][SELECTORS][2];
+
+        byte [] keyPressure = new byte[keys];
+
+        for (int row = 0; row < size; row++) {
+            keyPressure[instantKeys[row]] = pressure[row];
+        }
+
+        int [][] opposition = collectMatching(keys, OOConstants.OPPOSITION, true);
+
+        for (int selector = 0; selector < SELECTORS; selector++) {
+
+            int [][] matching = (selector == OOConstants.GOAL_OPPORTUNITY_CROSS) ? new int[keys][0] :
+                collectMatching(keys, selector, true);
+
+            for (int key = 0; key < keys; key++) {
+
+                int [] rows = matching[key];
+
+                if (rows.length == 0 && !isGenericSelector(selector)) {
+                    rows = opposition[key]; // Specialised cases lead to opposition ball possession
+                }
+
+                for (int pressed = 0; pressed < 2; pressed++) {
+                    if (rows.length == 0) {
+                        selectorIndex[key][selector][pressed] = CandidateSet.NONE;
+                    } else {
+                        selectorIndex[key][selector][pressed] = new CandidateSet(rows, weights, pressureMatched(keyPressure[key], pressed == 1));
+                    }
+                }
+            }
+        }
+
+        return selectorIndex;
+    }
+
+    /**
+     * Builds the lookup used for matching crosses. The pressure of the ball holder is not taken into account for crosses, except when a
+     * specialised case falls back to opposition ball possession under pressing.
+     */
+    private CandidateSet [][] buildCrossIndex(int keys) {
+
+        CandidateSet [][] crossIndex = new CandidateSet[keys][SELECTORS];
+
+        for (int selector = 0; selector < SELECTORS; selector++) {
+
+            // Whether a cross is a goal scoring opportunity depends on the initial instant only, so all the crosses of a key are candidates
+            int [][] matching = (selector == OOConstants.GOAL_OPPORTUNITY_CROSS) ? collectMatching(keys, -1, false) :
+                collectMatching(keys, selector, false);
+
+            for (int key = 0; key < keys; key++) {
+
+                if (matching[key].length > 0) {
+                    crossIndex[key][selector] = new CandidateSet(matching[key], weights, true);
+                } else if (isGenericSelector(selector) || selector == OOConstants.GOAL_OPPORTUNITY_CROSS) {
+                    crossIndex[key][selector] = CandidateSet.NONE;
+                } else {
+                    crossIndex[key][selector] = selectorIndex[key][OOConstants.OPPOSITION][1];
+                }
+            }
+        }
+
+        return crossIndex;
+    }
+
+    /**
+     * Checks whether the pressure of an instant matches the pressure of the ball holder
+     * @param pressure The pressure of the instant
+     * @param pressed True if the holder of the ball is under pressing
+     * @return True if the pressure is matched
+     */
+    private static boolean pressureMatched(byte pressure, boolean pressed) {
+        return ((pressed && (pressure == Constants.UNDER || pressure == Constants.AVOID)) ||
+                (!pressed && pressure == Constants.CLEAR));
+    }
+
+    /**
+     * Used in the restriction of the available actions to each player by its position in the field. Essentially the distinction is between a
+     * goalkeeper and an outfield player
+     * @param action The action checked
+     * @param position The player's position
+     * @return True if the action is compatible with the position
+     */
+    private static boolean actionAllowed(byte action, int position) {
+
+        if (position == Constants.GK) {
+            if (action == Constants.GkLongPass ||
+                action == Constants.Pass ||
+                action == Constants.FlankPass ||
+                action == Constants.KickAway)
+                    {return true;}
+            else {return false;}
+        } else {
+            if (action == Constants.GkLongPass) {
+                return false;
+            } else {
+                return true;
+            }
+        }
+
+    }
+
+    /**
+     * Transforms a record of the "probability model" from its binary format to the model columns
+     * @param binaryModel The binary model
+     * @param columns The model columns
+     * @param row The position of the record within the model
+     */
+    private static void transformRecord(ByteBuffer binaryModel, byte [][] columns, int row) {
+
+        int offset = row * Constants.REC_SIZE;
+
+        byte resultDesc = binaryModel.get(offset + Constants.RESULT_DESC);
+        byte resTeam = binaryModel.get(offset + Constants.RES_TEAM);
+
+        columns[COL_Y][row] = binaryModel.get(offset + Constants.Y);
+        columns[COL_X][row] = binaryModel.get(offset + Constants.X);
+        columns[COL_PRESSURE][row] = binaryModel.get(offset + Constants.PRESSURE);
+        columns[COL_ACTION][row] = binaryModel.get(offset + Constants.ACTION);
+
+        columns[COL_RES_Y][row] = binaryModel.get(offset + Constants.RES_Y);
+        columns[COL_RES_X][row] = binaryModel.get(offset + Constants.RES_X);
+        columns[COL_RES_PRESSURE][row] = binaryModel.get(offset + Constants.RES_PRESSURE);
+
+        // Now the mess starts to untangle
+        byte outcome = OUTCOME_NONE;
+        byte condition = 0;
+        byte possessionChange = 0;
+
+        if (resultDesc == Constants.CONDITION && resTeam == Constants.OPP_TEAM) {
+
+            outcome = OUTCOME_OPPONENT;
+            condition = OOConstants.COND_NORMAL;
+            possessionChange = binaryModel.get(offset + Constants.BALL_POSSESSION_CHANGE);
+
+        } else if (resultDesc == Constants.CONDITION && resTeam == Constants.OWN_TEAM) {
+
+            outcome = OUTCOME_SUCCESS;
+            condition = OOConstants.COND_NORMAL;
+
+        } else if (resultDesc == Constants.CHALLENGE) {
+
+            outcome = OUTCOME_CHALLENGE;
+            condition = -1;
+            columns[COL_CH_START_TEAM][row] = binaryModel.get(offset + Constants.CHALLENGE_TEAM);
+            columns[COL_CH_START_Y][row] = binaryModel.get(offset + Constants.CHALLENGE_Y);
+            columns[COL_CH_END_TEAM][row] = resTeam;
+            columns[COL_CH_ENDING][row] = binaryModel.get(offset + Constants.CHALLENGE_ENDING);
+            columns[COL_CH_TYPE][row] = binaryModel.get(offset + Constants.CHALLENGE_TYPE);
+
+        } else if (resultDesc == Constants.OTHER) {
+            if (resTeam == Constants.OWN_TEAM) {
+                outcome = OUTCOME_SUCCESS;
+                condition = binaryModel.get(offset + Constants.OTHER_RES);
+            } else if (resTeam == Constants.OPP_TEAM) {
+                outcome = OUTCOME_OPPONENT;
+                condition = binaryModel.get(offset + Constants.OTHER_RES);
+                possessionChange = binaryModel.get(offset + Constants.BALL_POSSESSION_CHANGE);
+            }
+        }
+
+        columns[COL_OUTCOME][row] = outcome;
+        columns[COL_CONDITION][row] = condition;
+        columns[COL_POSSESSION_CHANGE][row] = possessionChange;
+
+        // save id for easier debugging; it doesn't really mean a thing otherwise as ids with the same modulo are duplicated
+        columns[COL_ROW_ID][row] = binaryModel.get(offset + Constants.ROW_ID);
+    }
+
+    /**
+     * Collapses identical rows, i.e. rows not differing in anything but their row id, into the first of them, weighted by their number
+     * @param columns The model columns
+     * @param weights The weight of each distinct row, filled in by this method
+     * @return The columns of the distinct rows
+     */
+    private static byte [][] deduplicate(byte [][] columns, int [] weights) {
+
+        int records = columns[COL_Y].length;
+
+        int tableSize = 1;
+
+        while (tableSize < 2 * records) {
+            tableSize <<= 1;
+        }
+
+        // Open addressing hash table of the distinct rows found so far
+        int [] table = new int[tableSize];
+
+        for (int i = 0; i < tableSize; i++) {
+            table[i] = -1;
+        }
+
+        int [] distinctRows = new int[records];
+        int distinct = 0;
+
+        for (int row = 0; row < records; row++) {
+
+            int hash = 0;
+
+            for (int column = 0; column < COLUMNS; column++) {
+                if (column != COL_ROW_ID) {
+                    hash = 31 * hash + columns[column][row];
+                }
+            }
+
+            int slot = (hash ^ (hash >>> 16)) & (tableSize - 1);
+
+            while (table[slot] >= 0 && !rowsEqual(columns, distinctRows[table[slot]], row)) {
+                slot = (slot + 1) & (tableSize - 1);
+            }
+
+            if (table[slot] >= 0) {
+                weights[table[slot]]++;
+            } else {
+                table[slot] = distinct;
+                distinctRows[distinct] = row;
+                weights[distinct] = 1;
+                distinct++;
+            }
+        }
+
+        byte [][] distinctColumns = new byte[COLUMNS][distinct];
+
+        for (int column = 0; column < COLUMNS; column++) {
+            for (int i = 0; i < distinct; i++) {
+                distinctColumns[column][i] = columns[column][distinctRows[i]];
+            }
+        }
+
+        return distinctColumns;
+    }
+
+    private static boolean rowsEqual(byte [][] columns, int row, int otherRow) {
+
+        for (int column = 0; column < COLUMNS; column++) {
+            if (column != COL_ROW_ID && columns[column][row] != columns[column][otherRow]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the model in the compiled format
+     * @param compiledFilename The compiled model filename
+     * @throws IOException
+     */
+    void writeCompiled(String compiledFilename) throws IOException {
+
+        byte [][] columns = {y, x, pressure, action, resY, resX, resPressure, outcome, condition, possessionChange,
+                challengeStartTeam, challengeStartY, challengeEndTeam, challengeEnding, challengeType, rowId};
+
+        int keys = selectorIndex.length;
+
+        // Candidate sets are shared between index entries, so they are written once and referred to by their position
+        IdentityHashMap<CandidateSet, Integer> setIds = new IdentityHashMap<CandidateSet, Integer>();
+        ArrayList<CandidateSet> sets = new ArrayList<CandidateSet>();
+
+        for (CandidateSet candidates:stateIndex) {
+            addCandidateSet(candidates, setIds, sets);
+        }
+
+        for (int key = 0; key < keys; key++) {
+            for (int selector = 0; selector < SELECTORS; selector++) {
+                addCandidateSet(selectorIndex[key][selector][0], setIds, sets);
+                addCandidateSet(selectorIndex[key][selector][1], setIds, sets);
+                addCandidateSet(crossIndex[key][selector], setIds, sets);
+            }
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(payload);
+
+        output.writeInt(keys);
+
+        for (int column = 0; column < COLUMNS; column++) {
+            output.write(columns[column]);
+        }
+
+        for (int row = 0; row < size; row++) {
+            output.writeInt(weights[row]);
+        }
+
+        for (int row = 0; row < size; row++) {
+            output.writeInt(instantKeys[row]);
+        }
+
+        output.writeInt(sets.size());
+
+        for (CandidateSet candidates:sets) {
+
+            output.writeBoolean(candidates.matched);
+            output.writeInt(candidates.rows.length);
+
+            for (int i = 0; i < candidates.rows.length; i++) {
+                output.writeInt(candidates.rows[i]);
+            }
+
+            AliasTable distribution = candidates.getDistribution();
+
+            output.writeBoolean(distribution != null);
+
+            if (distribution != null) {
+                for (int i = 0; i < distribution.size(); i++) {
+                    output.writeDouble(distribution.getProbability(i));
+                }
+                for (int i = 0; i < distribution.size(); i++) {
+                    output.writeInt(distribution.getAlias(i));
+                }
+            }
+        }
+
+        output.writeInt(stateIndex.length);
+
+        for (CandidateSet candidates:stateIndex) {
+            output.writeInt(setIds.get(candidates));
+        }
+
+        for (int key = 0; key < keys; key++) {
+            for (int selector = 0; selector < SELECTORS; selector++) {
+                output.writeInt(setIds.get(selectorIndex[key][selector][0]));
+                output.writeInt(setIds.get(selectorIndex[key][selector][1]));
+                output.writeInt(setIds.get(crossIndex[key][selector]));
+            }
+        }
+
+        output.flush();
+
+        byte [] payloadBytes = payload.toByteArray();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(payloadBytes);
+
+        DataOutputStream compiledOutput = new DataOutputStream(new FileOutputStream(compiledFilename));
+
+        try {
+            compiledOutput.writeInt(COMPILED_MAGIC);
+            compiledOutput.writeInt(COMPILED_VERSION);
+            compiledOutput.writeInt(records);
+            compiledOutput.writeInt(size);
+            compiledOutput.writeLong(checksum.getValue());
+            compiledOutput.write(payloadBytes);
+        } finally {
+            compiledOutput.close();
+        }
+    }
+
+    private static void addCandidateSet(CandidateSet candidates, IdentityHashMap<CandidateSet, Integer> setIds, ArrayList<CandidateSet> sets) {
+        if (!setIds.containsKey(candidates)) {
+            setIds.put(candidates, sets.size());
+            sets.add(candidates);
+        }
+    }
+
+    /**
+     * Reads a model in the compiled format. The columns and indexes are copied as they are; nothing is transformed or rebuilt.
+     * @param probModelFilename The compiled model filename
+     * @param compiledModel The mapped compiled model file
+     * @return The probability model; an incomplete one if the file is corrupted or of an unsupported version
+     */
+    private static ProbModel readCompiled(String probModelFilename, ByteBuffer compiledModel) {
+
+        int version = compiledModel.getInt(4);
+
+        if (version != COMPILED_VERSION) {
+            System.out.println("Unsupported compiled probabilistic model version: " + version);
+            return new ProbModel(probModelFilename, new byte[COLUMNS][0], new int[0], false);
+        }
+
+        int rows = compiledModel.getInt(12);
+        long expectedChecksum = compiledModel.getLong(16);
+
+        compiledModel.position(COMPILED_HEADER_SIZE);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(compiledModel.slice());
+
+        if (checksum.getValue() != expectedChecksum) {
+            System.out.println("Possibly corrupted file. Checksum mismatch");
+            return new ProbModel(probModelFilename, new byte[COLUMNS][0], new int[0], false);
+        }
+
+        compiledModel.position(COMPILED_HEADER_SIZE);
+
+        int keys = compiledModel.getInt();
+
+        byte [][] columns = new byte[COLUMNS][rows];
+
+        for (int column = 0; column < COLUMNS; column++) {
+            compiledModel.get(columns[column]);
+        }
+
+        int [] weights = readInts(compiledModel, rows);
+        int [] instantKeys = readInts(compiledModel, rows);
+
+        CandidateSet [] sets = new CandidateSet[compiledModel.getInt()];
+
+        for (int i = 0; i < sets.length; i++) {
+
+            boolean matched = compiledModel.get() != 0;
+            int [] candidateRows = readInts(compiledModel, compiledModel.getInt());
+
+            AliasTable distribution = null;
+
+            if (compiledModel.get() != 0) {
+
+                double [] probability = new double[candidateRows.length];
+                compiledModel.asDoubleBuffer().get(probability);
+                compiledModel.position(compiledModel.position() + 8 * probability.length);
+
+                distribution = new AliasTable(probability, readInts(compiledModel, candidateRows.length));
+            }
+
+            sets[i] = (candidateRows.length == 0) ? CandidateSet.NONE : new CandidateSet(candidateRows, distribution, matched);
+        }
+
+        CandidateSet [] stateIndex = new CandidateSet[compiledModel.getInt()];
+
+        for (int i = 0; i < stateIndex.length; i++) {
+            stateIndex[i] = sets[compiledModel.getInt()];
+        }
+
+        CandidateSet [][][] selectorIndex = new CandidateSet[keys][SELECTORS][2];
+        CandidateSet [][] crossIndex = new CandidateSet[keys][SELECTORS];
+
+        for (int key = 0; key < keys; key++) {
+            for (int selector = 0; selector < SELECTORS; selector++) {
+                selectorIndex[key][selector][0] = sets[compiledModel.getInt()];
+                selectorIndex[key][selector][1] = sets[compiledModel.getInt()];
+                crossIndex[key][selector] = sets[compiledModel.getInt()];
+            }
+        }
+
+        return new ProbModel(probModelFilename, columns, weights, true, stateIndex, instantKeys, selectorIndex, crossIndex);
+    }
+
+    private static int [] readInts(ByteBuffer buffer, int count) {
+        int [] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+
+    /**
+     * Maps the binary file describing the match probability model to memory and transforms its records to the model columns, storing
+     * identical records once. A compiled model file is read as it is.
+     * A file whose size is not a multiple of the record size has a truncated trailing record; this is detected before any record is read
+     * and the complete records are still loaded.
+     * @param probModelFilename The probability model filename
+     * @return The probability model; an incomplete one if the file could not be read
+     */
+    static ProbModel loadProbModel(String probModelFilename) {
+
+        boolean complete = true;
+        int records = 0;
+        byte [][] columns = null;
+
+        try {
+            FileInputStream binaryInput = new FileInputStream(probModelFilename);
+
+            try {
+                FileChannel channel = binaryInput.getChannel();
+
+                long fileSize = channel.size();
+
+                if (fileSize > Integer.MAX_VALUE) {
+                    System.out.println("Probabilistic model file too large");
+                    return new ProbModel(probModelFilename, new byte[COLUMNS][0], new int[0], false);
+                }
+
+                ByteBuffer binaryModel = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+                if (fileSize >= COMPILED_HEADER_SIZE && binaryModel.getInt(0) == COMPILED_MAGIC) {
+                    return readCompiled(probModelFilename, binaryModel);
+                }
+
+                if (fileSize % Constants.REC_SIZE != 0) {
+                    System.out.println("Possibly corrupted file. Reading operation failed");
+                    complete = false;
+                }
+
+                records = (int) (fileSize / Constants.REC_SIZE);
+
+                columns = new byte[COLUMNS][records];
+
+                for (int row = 0; row < records; row++) {
+                    transformRecord(binaryModel, columns, row);
+                }
+
+            } finally {
+                binaryInput.close();
+            }
+
+        } catch (FileNotFoundException fnfe) {
+            System.out.println("Probabilistic model data not found");
+            return new ProbModel(probModelFilename, new byte[COLUMNS][0], new int[0], false);
+        } catch (IOException ioe) {
+            System.out.println("Error reading probabilistic model file");
+            return new ProbModel(probModelFilename, new byte[COLUMNS][0], new int[0], false);
+        }
+
+        int [] weights = new int[records];
+
+        columns = deduplicate(columns, weights);
+
+        int [] distinctWeights = new int[columns[COL_Y].length];
+        System.arraycopy(weights, 0, distinctWeights, 0, distinctWeights.length);
+
+        return new ProbModel(probModelFilename, columns, distinctWeights, complete);
+    }
+}
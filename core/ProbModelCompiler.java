@@ -0,0 +1,55 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.IOException;
+
+/**
+ * Compiles a probability model file to the compiled model format, which is read without transforming the records or building the indexes.
+ * Usage: ProbModelCompiler &lt;probability model file&gt; &lt;compiled model file&gt;
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class ProbModelCompiler {
+
+    public static void main(String [] args) {
+
+        if (args.length != 2) {
+            System.out.println("Usage: ProbModelCompiler <probability model file> <compiled model file>");
+            return;
+        }
+
+        ProbModel probModel = ProbModel.loadProbModel(args[0]);
+
+        if (!probModel.isComplete()) {
+            System.out.println("Probabilistic model could not be read completely. No compiled model written");
+            return;
+        }
+
+        try {
+            probModel.writeCompiled(args[1]);
+        } catch (IOException ioe) {
+            System.out.println("Error writing compiled probabilistic model file");
+            return;
+        }
+
+        System.out.println("Compiled " + probModel.getRecordCount() + " records (" + probModel.size() + " distinct) to " + args[1]);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.File;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The current version of the probability model of a file. Matches acquire the model at kick-off and keep that version until they finish,
+ * while the handle checks the file for modifications and replaces its model with a new version, which is then picked up by the next matches.
+ * A version is never modified, so it is shared by matches without any locking, and it is reclaimed as soon as no match refers to it.
+ * <p>
+ * The file is checked at most once per check interval. The model is read again by a single thread; meanwhile, the other threads keep
+ * acquiring the previous version instead of waiting. A modified file that cannot be read completely, for example because it is still being
+ * written, does not replace the current version. An unmodified file keeps its current version without going through the registry, so a
+ * version evicted from the registry meanwhile is not read again while the handle is held.
+ * <p>
+ * The handles are owned by a {@link ProbModelRegistry}, which drops the handle of a model it evicts.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public final class ProbModelHandle {
+
+    private final String filename;
+    private final File file;
+    private final ProbModelRegistry registry;
+    private final long checkInterval;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile ProbModel current;
+    private volatile long nextCheck = 0;
+
+    // The modification time of the file when the current version was read; guarded by the reload lock
+    private long currentLastModified;
+
+    /**
+     * 
+     * @param filename The probability model filename
+     * @param registry The registry the model is read through
+     * @param checkInterval The minimum interval between two checks of the file for modifications, in milliseconds
+     */
+    public ProbModelHandle(String filename, ProbModelRegistry registry, long checkInterval) {
+        this.filename = filename;
+        this.file = new File(filename);
+        this.registry = registry;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * 
+     * @param filename The probability model filename
+     * @return The handle of the file shared by all matches, reading through the default registry
+     */
+    public static ProbModelHandle forFile(String filename) {
+        return ProbModelRegistry.getDefault().getHandle(filename);
+    }
+
+    /**
+     * 
+     * @return The current version of the model, after checking the file for modifications if the check interval has elapsed
+     */
+    public ProbModel acquire() {
+
+        ProbModel probModel = current;
+
+        if (probModel != null && System.currentTimeMillis() < nextCheck) {
+            return probModel;
+        }
+
+        // Another thread is already reading the file: the current version is still valid meanwhile
+        if (probModel != null && probModel.isComplete()) {
+            if (!reloadLock.tryLock()) {
+                return probModel;
+            }
+        } else {
+            reloadLock.lock();
+        }
+
+        try {
+            refresh();
+        } finally {
+            reloadLock.unlock();
+        }
+
+        return current;
+    }
+
+    private void refresh() {
+
+        if (current != null && System.currentTimeMillis() < nextCheck) {
+            return;
+        }
+
+        long lastModified = file.lastModified();
+
+        if (current != null && current.isComplete() && lastModified == currentLastModified) {
+            nextCheck = System.currentTimeMillis() + checkInterval;
+            return;
+        }
+
+        ProbModel probModel = registry.getModel(filename);
+
+        if (probModel == current) {
+            currentLastModified = lastModified;
+        } else {
+
+            if (probModel.isComplete() || current == null || !current.isComplete()) {
+                current = probModel;
+                currentLastModified = lastModified;
+            } else {
+                System.out.println("Probabilistic model could not be reloaded. Keeping the previous version");
+            }
+        }
+
+        nextCheck = System.currentTimeMillis() + checkInterval;
+    }
+
+    public String getFilename() {
+        return this.filename;
+    }
+}
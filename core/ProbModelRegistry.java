@@ -0,0 +1,356 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import utility.Config;
+
+/**
+ * A cache of loaded probability models, keyed by the path and modification time of the model file. A model file modified since it was loaded
+ * is read again, and its previous model is dropped from the cache. The models kept are limited by a memory budget; when it is exceeded, the
+ * least recently used models are evicted, except for the one just requested.
+ * <p>
+ * A model file is read outside the lock of the registry, so that a slow read does not hold up the requests for other models. Requests for a
+ * model file which is being read wait for that read instead of reading the file again.
+ * <p>
+ * The registry also owns the {@link ProbModelHandle} of each model file. A handle is dropped along with its model when the model is evicted,
+ * so that the registry does not keep evicted models in memory through their handles.
+ * The default registry takes its budget, in megabytes, from the <code>probmodelcache</code> configuration variable.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public final class ProbModelRegistry {
+
+    private static final String MODEL_CACHE_KEY = "probmodelcache";
+
+    private static final long MEGABYTE = 1024 * 1024;
+    private static final long DEFAULT_BUDGET = 64 * MEGABYTE;
+
+    private static final long HANDLE_CHECK_INTERVAL = 1000;
+
+    private static volatile ProbModelRegistry defaultRegistry;
+
+    private final long budget;
+    private long memoryUsage = 0;
+
+    // Iterated in least recently used order
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    
+    // The model files being read, by path
+    private final HashMap<String, Load> loads = new HashMap<String, Load>();
+
+    // The handles of the model files, by path
+    private final HashMap<String, ProbModelHandle> handles = new HashMap<String, ProbModelHandle>();
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    private static final class Entry {
+
+        final long lastModified;
+        final ProbModel probModel;
+
+        Entry(long lastModified, ProbModel probModel) {
+            this.lastModified = lastModified;
+            this.probModel = probModel;
+        }
+    }
+
+    private static final class Load {
+
+        final long lastModified;
+        final FutureTask<ProbModel> task;
+
+        Load(long lastModified, FutureTask<ProbModel> task) {
+            this.lastModified = lastModified;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 
+     * @param budget The memory budget of the registry in bytes
+     */
+    public ProbModelRegistry(long budget) {
+
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+
+        this.budget = budget;
+    }
+
+    /**
+     * 
+     * @return The registry shared by all matches
+     */
+    public static ProbModelRegistry getDefault() {
+
+        ProbModelRegistry registry = defaultRegistry;
+
+        if (registry != null) {
+            return registry;
+        }
+
+        synchronized (ProbModelRegistry.class) {
+
+            if (defaultRegistry != null) {
+                return defaultRegistry;
+            }
+
+            long budget = DEFAULT_BUDGET;
+
+            String configuredBudget = Config.readConfig(MODEL_CACHE_KEY);
+
+            if (configuredBudget != null) {
+                try {
+                    budget = Long.parseLong(configuredBudget) * MEGABYTE;
+                } catch (NumberFormatException nfe) {
+                    System.out.println("Invalid probabilistic model cache size: " + configuredBudget);
+                }
+            }
+
+            defaultRegistry = new ProbModelRegistry(budget > 0 ? budget : DEFAULT_BUDGET);
+
+            return defaultRegistry;
+        }
+    }
+
+    /**
+     * Returns the handle of a model file, through which matches acquire the current version of its model. Callers playing many matches
+     * should get the handle once and keep it, instead of getting it again for every match.
+     * @param filename The probability model filename
+     * @return The handle of the file, reading through this registry
+     */
+    public ProbModelHandle getHandle(String filename) {
+
+        String path = new File(filename).getAbsolutePath();
+
+        synchronized (this) {
+
+            ProbModelHandle handle = handles.get(path);
+
+            if (handle == null) {
+                handle = new ProbModelHandle(filename, this, HANDLE_CHECK_INTERVAL);
+                handles.put(path, handle);
+            }
+
+            return handle;
+        }
+    }
+
+    /**
+     * Returns the probability model of a file, reading the file if its model is not cached or the file has been modified since
+     * @param filename The probability model filename
+     * @return The probability model
+     */
+    public ProbModel getModel(final String filename) {
+
+        String path = new File(filename).getAbsolutePath();
+        long lastModified = new File(path).lastModified();
+
+        Load load;
+        boolean reader = false;
+
+        synchronized (this) {
+
+            Entry entry = entries.get(path);
+
+            if (entry != null) {
+
+                if (entry.lastModified == lastModified) {
+                    hits++;
+                    return entry.probModel;
+                }
+
+                remove(path);
+            }
+
+            load = loads.get(path);
+
+            // A read of an older version of the file is left to finish, but it is no longer joined
+            if (load == null || load.lastModified != lastModified) {
+
+                load = new Load(lastModified, new FutureTask<ProbModel>(new Callable<ProbModel>() {
+                    public ProbModel call() {
+                        return ProbModel.loadProbModel(filename);
+                    }
+                }));
+
+                loads.put(path, load);
+                reader = true;
+                misses++;
+            }
+        }
+
+        if (reader) {
+            load.task.run();
+        }
+
+        ProbModel probModel = getLoaded(load.task);
+
+        if (reader) {
+
+            synchronized (this) {
+
+                // Superseded by the read of a newer version, which caches its own model
+                if (loads.get(path) == load) {
+
+                    loads.remove(path);
+
+                    // A failed read is not cached, so that it is retried by the next match
+                    if (probModel.isComplete()) {
+
+                        remove(path);
+
+                        entries.put(path, new Entry(load.lastModified, probModel));
+                        memoryUsage += probModel.getMemorySize();
+
+                        evict();
+                    }
+                }
+            }
+        }
+
+        return probModel;
+    }
+
+    /**
+     * Waits for a model file read, started by this or another thread, to finish
+     * @param task The read
+     * @return The model read
+     */
+    private static ProbModel getLoaded(FutureTask<ProbModel> task) {
+
+        boolean interrupted = false;
+
+        try {
+
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                } catch (ExecutionException ee) {
+                    throw new RuntimeException("Probabilistic model could not be read", ee.getCause());
+                }
+            }
+
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void remove(String path) {
+
+        Entry entry = entries.remove(path);
+
+        if (entry != null) {
+            memoryUsage -= entry.probModel.getMemorySize();
+        }
+    }
+
+    /**
+     * Evicts the least recently used models until the memory budget is met. The most recently used model is never evicted, even if it
+     * exceeds the budget on its own.
+     */
+    private void evict() {
+
+        Iterator<Map.Entry<String, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+
+        while (memoryUsage > budget && entries.size() > 1) {
+
+            Map.Entry<String, Entry> evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+
+            // Matches holding the handle keep its model until they finish; the next ones get a new handle, which reads the file again
+            handles.remove(evicted.getKey());
+
+            Entry entry = evicted.getValue();
+
+            memoryUsage -= entry.probModel.getMemorySize();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops all cached models
+     */
+    public synchronized void clear() {
+        entries.clear();
+        handles.clear();
+        memoryUsage = 0;
+    }
+
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * 
+     * @return The estimated memory taken up by the cached models in bytes
+     */
+    public synchronized long getMemoryUsage() {
+        return this.memoryUsage;
+    }
+
+    /**
+     * 
+     * @return The number of cached models
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 
+     * @return The number of requests served from the cache
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * 
+     * @return The number of requests that read a model file
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * 
+     * @return The number of models evicted to meet the memory budget
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import java.util.ArrayList;
+
+import utility.RealWorldMapping;
+import utility.Tactics;
+
+/**
+ * Utility class for gathering all the player stats categories, in the order their ratings are summed up in the player's rating
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class StatCategories {
+    
+    private static final int NONE = StatCategory.NONE;
+    
+    private static final double EXP_AttemptsAtGoal = 1 / (RealWorldMapping.avgFinishing + RealWorldMapping.avgShooting + 1);
+    
+    private static ArrayList<StatCategory> all = new ArrayList<StatCategory>();
+    
+    public static final StatCategory GK_LONG_PASS = percentage("Gk Long Pass", RealWorldMapping.EXP_GkLongPass, 
+            1 + RealWorldMapping.EVAL_GkLongPass, null);
+    public static final StatCategory LONG_PASS = percentage("Long Pass", RealWorldMapping.EXP_LongPass, 1 + RealWorldMapping.EVAL_LongPass, 
+            byLine(NONE, RealWorldMapping.THR_LongPass_DEF, RealWorldMapping.THR_LongPass_MID, NONE));
+    public static final StatCategory FORWARD_PASS = percentage("Forward Pass", RealWorldMapping.EXP_ForwardPass, 
+            1 + RealWorldMapping.EVAL_ForwardPass, byLine(NONE, RealWorldMapping.THR_ForwPass_DEF, RealWorldMapping.THR_ForwPass_MID, NONE));
+    public static final StatCategory FLANK_PASS = percentage("Flank Pass", RealWorldMapping.EXP_FlankPass, 1 + RealWorldMapping.EVAL_FlankPass, 
+            byLine(NONE, RealWorldMapping.THR_FlankPass_DEF, RealWorldMapping.THR_FlankPass_MID, NONE));
+    public static final StatCategory BALL_CONTROL = percentage("Ball Control", RealWorldMapping.EXP_BallControl, 
+            1 + RealWorldMapping.EVAL_BallControl, byLine(NONE, NONE, RealWorldMapping.THR_BallControl_MID, RealWorldMapping.THR_BallControl_FOR));
+    public static final StatCategory PASS = percentage("Pass", RealWorldMapping.EXP_Pass, 1 + RealWorldMapping.EVAL_Pass, 
+            byLine(NONE, NONE, RealWorldMapping.THR_Pass_MID, NONE));
+    public static final StatCategory RUN_BALL = percentage("Run Ball", RealWorldMapping.EXP_RunBall, 1 + RealWorldMapping.EVAL_RunBall, 
+            byLine(NONE, RealWorldMapping.THR_RunBall_DEF, RealWorldMapping.THR_RunBall_MID, NONE));
+    public static final StatCategory LOW_CROSS = percentage("Low Cross", RealWorldMapping.EXP_LowCross, 1 + RealWorldMapping.EVAL_LowCross, 
+            byPosition(null, null, 
+                    bySide(RealWorldMapping.THR_LowCross_MID_F, NONE, RealWorldMapping.THR_LowCross_MID_CF), 
+                    bySide(RealWorldMapping.THR_LowCross_FOR_F, NONE, RealWorldMapping.THR_LowCross_FOR_CF)));
+    public static final StatCategory CROSS = percentage("Cross", RealWorldMapping.EXP_Cross, 1 + RealWorldMapping.EVAL_Cross, 
+            byPosition(null, 
+                    bySide(RealWorldMapping.THR_Cross_DEF_F, NONE, RealWorldMapping.THR_Cross_DEF_CF), 
+                    bySide(RealWorldMapping.THR_Cross_MID_F, RealWorldMapping.THR_Cross_MID_C, RealWorldMapping.THR_Cross_MID_CF), 
+                    bySide(RealWorldMapping.THR_Cross_FOR_F, NONE, RealWorldMapping.THR_Cross_FOR_CF)));
+    public static final StatCategory SHOTS = percentage("Shots", EXP_AttemptsAtGoal, 1 + RealWorldMapping.EVAL_Shots, 
+            byLine(NONE, NONE, RealWorldMapping.THR_SHOTS_MID, RealWorldMapping.THR_SHOTS_FOR));
+    public static final StatCategory HEADINGS = percentage("Headings", EXP_AttemptsAtGoal, 1 + RealWorldMapping.EVAL_Shots, 
+            byPosition(null, null, null, bySide(RealWorldMapping.THR_HEADINGS_FOR_C, NONE, RealWorldMapping.THR_HEADINGS_FOR_CF)));
+    public static final StatCategory DRIBBLING = percentage("Dribbling", RealWorldMapping.EXP_Dribbling, 1, 
+            byLine(NONE, RealWorldMapping.THR_Dribbling_DEF, RealWorldMapping.THR_Dribbling_MID, RealWorldMapping.THR_Dribbling_FOR));
+    public static final StatCategory LONG_FLANK_PASS = percentage("Long Flank Pass", RealWorldMapping.EXP_LongFlankPass, 1, 
+            byLine(NONE, NONE, RealWorldMapping.THR_LongFlankPass_MID, NONE));
+    public static final StatCategory AREA_PASS = percentage("Area Pass", RealWorldMapping.EXP_AreaPass, 1, 
+            byLine(NONE, NONE, RealWorldMapping.THR_AreaPass_MID, RealWorldMapping.THR_AreaPass_FOR));
+    public static final StatCategory PERSONAL_CHALLENGES = add("Individual challenges", StatCategory.Rating.OCCURENCES, 1, 
+            byLine(NONE, RealWorldMapping.THR_IndCh_DEF, RealWorldMapping.THR_IndCh_MID, NONE));
+    public static final StatCategory INTERCEPTIONS = add("Interceptions", StatCategory.Rating.OCCURENCES, 1, null);
+    public static final StatCategory SAVES = add("Saves", StatCategory.Rating.OCCURENCES, RealWorldMapping.EVAL_SAVES, null);
+    public static final StatCategory CONCEDINGS = add("Concedings", StatCategory.Rating.NEGATIVE, RealWorldMapping.EVAl_CONCEDINGS, null);
+    public static final StatCategory PENALTIES_MISSED = add("Penalties missed", StatCategory.Rating.NEGATIVE, 
+            RealWorldMapping.EVAL_PENALTIES_MISSED, null);
+    public static final StatCategory PENALTIES_SAVED = add("Penalties saved", StatCategory.Rating.OCCURENCES, 
+            RealWorldMapping.EVAL_PENALTIES_SAVED, null);
+    public static final StatCategory GOALS = add("Goals scored", StatCategory.Rating.PENALTY_GOALS, RealWorldMapping.EVAL_PENALTY_GOALS, null);
+    
+    /**
+     * Getter
+     * @return All player stats categories, indexed by their id
+     */
+    public static ArrayList<StatCategory> getAll() {
+        return all;
+    }
+    
+    /**
+     * 
+     * @return The number of player stats categories
+     */
+    public static int size() {
+        return all.size();
+    }
+    
+    private static StatCategory percentage(String name, double expectedRate, double weight, int [][] thresholds) {
+        
+        StatCategory category = new StatCategory(all.size(), name, StatCategory.Rating.PERCENTAGE, expectedRate, weight, thresholds);
+        all.add(category);
+        
+        return category;
+    }
+    
+    private static StatCategory add(String name, StatCategory.Rating rating, double weight, int [][] thresholds) {
+        
+        StatCategory category = new StatCategory(all.size(), name, rating, 0, weight, thresholds);
+        all.add(category);
+        
+        return category;
+    }
+    
+    /**
+     * Thresholds depending on the tactic line only
+     * @param gk Goalkeeper threshold
+     * @param def Defender threshold
+     * @param mid Midfielder threshold
+     * @param fwd Forward threshold
+     * @return The thresholds indexed by tactic line and tactic position
+     */
+    private static int [][] byLine(int gk, int def, int mid, int fwd) {
+        return byPosition(bySide(gk, gk, gk), bySide(def, def, def), bySide(mid, mid, mid), bySide(fwd, fwd, fwd));
+    }
+    
+    /**
+     * Thresholds depending on the tactic position as well
+     * @param gk Goalkeeper thresholds by tactic position, or null for none
+     * @param def Defender thresholds by tactic position, or null for none
+     * @param mid Midfielder thresholds by tactic position, or null for none
+     * @param fwd Forward thresholds by tactic position, or null for none
+     * @return The thresholds indexed by tactic line and tactic position
+     */
+    private static int [][] byPosition(int [] gk, int [] def, int [] mid, int [] fwd) {
+        
+        int [][] thresholds = new int[Tactics.TacticLine.values().length][];
+        
+        thresholds[Tactics.TacticLine.GK.ordinal()] = gk;
+        thresholds[Tactics.TacticLine.DEFENDER.ordinal()] = def;
+        thresholds[Tactics.TacticLine.MIDFIELDER.ordinal()] = mid;
+        thresholds[Tactics.TacticLine.FORWARD.ordinal()] = fwd;
+        
+        for (int line = 0; line < thresholds.length; line++) {
+            if (thresholds[line] == null) {
+                thresholds[line] = bySide(NONE, NONE, NONE);
+            }
+        }
+        
+        return thresholds;
+    }
+    
+    /**
+     * Thresholds of a tactic line by tactic position
+     * @param flank The threshold on the flanks
+     * @param axis The threshold on the axis
+     * @param axisFlank The threshold between the axis and the flanks
+     * @return The thresholds indexed by tactic position
+     */
+    private static int [] bySide(int flank, int axis, int axisFlank) {
+        
+        int [] thresholds = new int[Tactics.TacticPosition.values().length];
+        
+        thresholds[Tactics.TacticPosition.LEFT.ordinal()] = flank;
+        thresholds[Tactics.TacticPosition.RIGHT.ordinal()] = flank;
+        thresholds[Tactics.TacticPosition.AXIS.ordinal()] = axis;
+        thresholds[Tactics.TacticPosition.LEFT_AXIS.ordinal()] = axisFlank;
+        thresholds[Tactics.TacticPosition.RIGHT_AXIS.ordinal()] = axisFlank;
+        
+        return thresholds;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package core;
+
+import utility.Tactics;
+
+/**
+ * A category of the player stats: how its occurences are counted and how they contribute to the player's rating
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class StatCategory {
+    
+    /**
+     * The ways the stats categories are rated
+     */
+    public static enum Rating {
+        PERCENTAGE, // Successful over total attempts
+        OCCURENCES, // The occurences themselves
+        NEGATIVE, // The occurences, having negative effect on the player's rating
+        PENALTY_GOALS // The goals scored not counted as successful attempts at goal
+    }
+    
+    /**
+     * Marks a position for which a stats category defines no threshold of its own
+     */
+    public static final int NONE = -1;
+    
+    private int id;
+    private String name;
+    private Rating rating;
+    private double expectedRate;
+    private double weight;
+    private int [][] thresholds;
+    private int [] lineThresholds; // The thresholds that do not depend on the tactic position
+    
+    /**
+     * Initialize stats category
+     * @param id The index of the stats category among all stats categories
+     * @param name The name of the stats category, as shown in the player stats
+     * @param rating The way the stats category is rated
+     * @param expectedRate The expected success rate of the stats category, used for percentage ratings
+     * @param weight The weight of the stats category in the player's rating
+     * @param thresholds The expected attempts in a whole match indexed by tactic line and tactic position, or null if the stats category is 
+     * rated without thresholds
+     */
+    public StatCategory(int id, String name, Rating rating, double expectedRate, double weight, int [][] thresholds) {
+        this.id = id;
+        this.name = name;
+        this.rating = rating;
+        this.expectedRate = expectedRate;
+        this.weight = weight;
+        this.thresholds = thresholds;
+        
+        if (thresholds != null) {
+            
+            this.lineThresholds = new int[thresholds.length];
+            
+            for (int line = 0; line < thresholds.length; line++) {
+                
+                lineThresholds[line] = thresholds[line][0];
+                
+                for (int position = 1; position < thresholds[line].length; position++) {
+                    if (thresholds[line][position] != lineThresholds[line]) {
+                        lineThresholds[line] = NONE;
+                    }
+                }
+            }
+        }
+    }
+    
+    public int getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Rating getRating() {
+        return rating;
+    }
+    
+    public double getExpectedRate() {
+        return expectedRate;
+    }
+    
+    public double getWeight() {
+        return weight;
+    }
+    
+    /**
+     * 
+     * @return Whether the stats category is rated against the expected attempts of the player's position
+     */
+    public boolean isThresholded() {
+        return thresholds != null;
+    }
+    
+    /**
+     * Get the expected attempts in a whole match for a player's position
+     * @param yPos The player's tactic line
+     * @param xPos The player's tactic position, if any
+     * @return The threshold, or NONE if the stats category defines none for the position
+     */
+    public int getThreshold(Tactics.TacticLine yPos, Tactics.TacticPosition xPos) {
+        
+        if (thresholds == null || yPos == null) return NONE;
+        
+        if (xPos == null) return lineThresholds[yPos.ordinal()];
+        
+        return thresholds[yPos.ordinal()][xPos.ordinal()];
+    }
+    
+}
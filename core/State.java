@@ -19,7 +19,7 @@ package core;
 
 import gameplay.Player;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The state of the match. All the information that describe the match at any specific time are included in objects of this class. 
@@ -164,8 +164,6 @@ public class State {
         }
     }
     
-    private static Random rnd = new Random();
-    
     private Team team;
     private X x;
     private Y y;
@@ -203,7 +201,11 @@ public class State {
         this.side = side;
     }
     
-    public void setRandomSide() {
+    /**
+     * Sets a random side of the pitch
+     * @param rnd The random number generator of the match
+     */
+    public void setRandomSide(SplittableRandom rnd) {
         this.side = rnd.nextInt(2) + 1; 
     }
     
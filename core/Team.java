@@ -18,11 +18,18 @@
 package core;
 
 import gameplay.Player;
+import gameplay.PlayerAttribute;
+import gameplay.PlayerAttributes;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
 
+import utility.AliasTable;
 import utility.RealWorldMapping;
 import utility.Tactics;
 import utility.exceptions.TacticsException;
@@ -36,13 +43,21 @@ import utility.exceptions.TacticsException;
  */
 public class Team extends utility.Team {
     
-    private HashMap<Player, Tactics.TacticLine> skilledLineup = new HashMap<Player, Tactics.TacticLine>();
-    private HashMap<Player, Tactics.TacticPosition> playerLayout = new HashMap<Player, Tactics.TacticPosition>();
+    // Kept in insertion order, so that the random player selections of a match depend on its seed only
+    private HashMap<Player, Tactics.TacticLine> skilledLineup = new LinkedHashMap<Player, Tactics.TacticLine>();
+    private HashMap<Player, Tactics.TacticPosition> playerLayout = new LinkedHashMap<Player, Tactics.TacticPosition>();
     
     private ArrayList<Player> flatLineup = new ArrayList<Player>();
     private ArrayList<Player> orderedLineup = new ArrayList<Player>();
     
-    private HashMap<Byte, String> actionAttributes = new HashMap<Byte, String>();
+    private HashMap<Byte, PlayerAttribute> actionAttributes = new HashMap<Byte, PlayerAttribute>();
+    
+    // Weighted selection of players from the current lineup; built on first use and discarded whenever the lineup changes
+    private volatile LineupSelection lineupSelection;
+    
+    // Average skills and strengths of the tactics lines of the current lineup; built on first use and discarded whenever the lineup or 
+    // the skills of any player change
+    private volatile LineStrengths lineStrengths;
     
     public Tactics.TacticPosition getPosXByPlayer(Player player) {
         return playerLayout.get(player);
@@ -61,6 +76,8 @@ public class Team extends utility.Team {
     public void addPlayer(Player player, Tactics.TacticLine position) {
         orderedLineup.add(player);
         skilledLineup.put(player, position);
+        clearLineupSelection();
+        clearLineStrengths();
     }
     
     /**
@@ -257,6 +274,8 @@ public class Team extends utility.Team {
             this.flatLineup.add(player);
         }
         
+        clearLineStrengths();
+        
         /*
         for (Player player:this.flatLineup) {
             System.out.println("Player: " + player.getFamilyName());
@@ -276,7 +295,9 @@ public class Team extends utility.Team {
         int forwards = tactics.getForwards();
         
         // reset skilled line up
-        skilledLineup = new HashMap<Player, Tactics.TacticLine>();
+        skilledLineup = new LinkedHashMap<Player, Tactics.TacticLine>();
+        clearLineupSelection();
+        clearLineStrengths();
         
         skilledLineup.put(flatLineup.get(0), Tactics.TacticLine.GK);
         
@@ -338,16 +359,6 @@ public class Team extends utility.Team {
         return flatLineup;
     }
     
-    /**
-     * For every player potentially entering the lineup throughout a match, adjust its stats up to a certain time
-     * @param time The virtual time
-     */
-    public void adjustPlayerStatsToTime(int time) {
-        for (Player player:flatLineup) {
-            player.getStats().adjustToTime(time);
-        }
-    }
-    
     /**
      * The 'core' team object is based on a 'utility' team object from the previous incarnation of this project. The parent contructor is called
      * as well. For this object, we map the available to a player actions to the relevant skill description
@@ -355,25 +366,30 @@ public class Team extends utility.Team {
      */
     public Team(String teamName) {
         super(teamName);
-        actionAttributes.put(Constants.GkLongPass, "Passing");
-        actionAttributes.put(Constants.Pass, "Passing");
-        actionAttributes.put(Constants.HighPass, "Passing");
-        actionAttributes.put(Constants.ForwardPass, "Passing");
-        actionAttributes.put(Constants.Combination, "Teamwork");
-        actionAttributes.put(Constants.FlankPass, "Passing");
-        actionAttributes.put(Constants.BallControl, "BallControl");
-        actionAttributes.put(Constants.LongThrowIn, "ThrowIn");
-        actionAttributes.put(Constants.Dribbling, "Dribbling");
-        actionAttributes.put(Constants.LongFlankPass, "Passing");
-        actionAttributes.put(Constants.Cross, "Crossing");
-        actionAttributes.put(Constants.LowCross, "Crossing");
-        actionAttributes.put(Constants.LongPass, "Passing");
-        actionAttributes.put(Constants.AreaPass, "Passing");
-        actionAttributes.put(Constants.RunBall, "BallControl");
+        actionAttributes.put(Constants.GkLongPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.Pass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.HighPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.ForwardPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.Combination, PlayerAttributes.TEAMWORK);
+        actionAttributes.put(Constants.FlankPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.BallControl, PlayerAttributes.BALL_CONTROL);
+        actionAttributes.put(Constants.LongThrowIn, PlayerAttributes.THROW_IN);
+        actionAttributes.put(Constants.Dribbling, PlayerAttributes.DRIBBLING);
+        actionAttributes.put(Constants.LongFlankPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.Cross, PlayerAttributes.CROSSING);
+        actionAttributes.put(Constants.LowCross, PlayerAttributes.CROSSING);
+        actionAttributes.put(Constants.LongPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.AreaPass, PlayerAttributes.PASSING);
+        actionAttributes.put(Constants.RunBall, PlayerAttributes.BALL_CONTROL);
     }
     
-    public HashMap<Player, Tactics.TacticLine> getSkilledLineup() {
-        return skilledLineup;
+    /**
+     * Getter
+     * @return A read-only view of the lineup. The lineup is changed through the team only, so that the values calculated from it are 
+     * discarded along with it
+     */
+    public Map<Player, Tactics.TacticLine> getSkilledLineup() {
+        return Collections.unmodifiableMap(skilledLineup);
     }
     
     /**
@@ -421,37 +437,7 @@ public class Team extends utility.Team {
      * @return The 'strength' of the tactics line as function of its number of players
      */
     public double getTargetStrength(int tacticsLine) {
-        
-        Tactics.TacticLine posLine = null;
-        
-        switch (tacticsLine) {
-        case Constants.GK:
-            posLine = Tactics.TacticLine.GK;
-            break;
-        case Constants.DEFENDER:
-            posLine = Tactics.TacticLine.DEFENDER;
-            break;
-        case Constants.MIDFIELDER:
-            posLine = Tactics.TacticLine.MIDFIELDER;
-            break;
-        case Constants.FORWARD:
-            posLine = Tactics.TacticLine.FORWARD;
-            break;
-        }
-        
-        if (posLine.equals(Tactics.TacticLine.GK)) {
-            return 1;
-        }
-        
-        Set<Player> players = skilledLineup.keySet();
-        
-        double counter = 0;
-        
-        for (Player player:players) {
-            if (skilledLineup.get(player).equals(posLine)) ++counter;
-        }
-        
-        return counter / RealWorldMapping.defaultTLCardinality;        
+        return getLineStrengths().targetStrengths[tacticsLine - 1];
     }
     
     /**
@@ -487,9 +473,10 @@ public class Team extends utility.Team {
     /**
      * Gets a player who has a specific position
      * @param position The player's position in the field (in the Y axis)
+     * @param rnd The random number generator of the match
      * @return A random player who has a specific position
      */
-    public Player getPlayerByPosition(int position) {
+    public Player getPlayerByPosition(int position, SplittableRandom rnd) {
         
         Tactics.TacticLine posLine = null;
         
@@ -527,9 +514,10 @@ public class Team extends utility.Team {
      * @param xPos The X axis position
      * @param excludedPlayer The player to be excluded from the candidates for the result. This is because, for example, we don't want a player to 
      * pass the ball to itself 
+     * @param rnd The random number generator of the match
      * @return A random player who has a specific position and is not specified as excluded
      */
-    public Player getPlayerByPosition(int position, Tactics.TacticPosition xPos, Player excludedPlayer) {
+    public Player getPlayerByPosition(int position, Tactics.TacticPosition xPos, Player excludedPlayer, SplittableRandom rnd) {
         
         // System.out.println("Position: " + position);
         // System.out.println("Getting player by position: " + xPos);
@@ -592,26 +580,26 @@ public class Team extends utility.Team {
         if (matchingPlayers.size() == 0) {
             if (position == Constants.FORWARD) {
                 // System.out.println("Forward not found");
-                return getPlayerByPosition(Constants.MIDFIELDER, xPos, excludedPlayer);
+                return getPlayerByPosition(Constants.MIDFIELDER, xPos, excludedPlayer, rnd);
             } else if (position == Constants.MIDFIELDER) {
                 // System.out.println("Midfielder not found");
                 // System.out.println("Excluded player: " + excludedPlayer.getFamilyName());
-                return getPlayerByPosition(Constants.DEFENDER, xPos, excludedPlayer);
+                return getPlayerByPosition(Constants.DEFENDER, xPos, excludedPlayer, rnd);
             } else {
                 // System.out.println("Defender not found");
-                return getPlayerByPosition(Constants.MIDFIELDER, Tactics.TacticPosition.AXIS);
+                return getPlayerByPosition(Constants.MIDFIELDER, Tactics.TacticPosition.AXIS, rnd);
             }
         } else if (matchingPlayers.size() == 1) {
             if (matchingPlayers.get(0) == excludedPlayer) {
                 if (position == Constants.FORWARD) {
                     // System.out.println("Forward not found");
-                    return getPlayerByPosition(Constants.MIDFIELDER, xPos);
+                    return getPlayerByPosition(Constants.MIDFIELDER, xPos, rnd);
                 } else if (position == Constants.MIDFIELDER) {
                     // System.out.println("Midfielder not found (excluded)");
-                    return getPlayerByPosition(Constants.DEFENDER, xPos);
+                    return getPlayerByPosition(Constants.DEFENDER, xPos, rnd);
                 } else {
                     // System.out.println("Defender excluded");
-                    return getPlayerByPosition(Constants.MIDFIELDER, Tactics.TacticPosition.AXIS); // Search for midfield
+                    return getPlayerByPosition(Constants.MIDFIELDER, Tactics.TacticPosition.AXIS, rnd); // Search for midfield
                 }
             } else {
                 // System.out.println("Returning only candidate");
@@ -627,9 +615,10 @@ public class Team extends utility.Team {
      * Get a player by a specific position 
      * @param position The Y axis position
      * @param xPos The X axis position
+     * @param rnd The random number generator of the match
      * @return A random player who has a specific position
      */
-    public Player getPlayerByPosition(int position, Tactics.TacticPosition xPos) {
+    public Player getPlayerByPosition(int position, Tactics.TacticPosition xPos, SplittableRandom rnd) {
         
         // System.out.println("Position: " + position);
         // System.out.println("Getting player by position: " + xPos);
@@ -685,10 +674,10 @@ public class Team extends utility.Team {
         if (matchingPlayers.size() == 0) {
             if (position == Constants.FORWARD) {
                 // System.out.println("Forward not found");
-                return getPlayerByPosition(Constants.MIDFIELDER, xPos);
+                return getPlayerByPosition(Constants.MIDFIELDER, xPos, rnd);
             } else if (position == Constants.MIDFIELDER) {
                 // System.out.println("Midfielder not found");
-                return getPlayerByPosition(Constants.DEFENDER, xPos);
+                return getPlayerByPosition(Constants.DEFENDER, xPos, rnd);
             } else {
                 return null;
             }
@@ -700,9 +689,10 @@ public class Team extends utility.Team {
     
     /**
      * Get a random player who can be characterized as 'defensive'
+     * @param rnd The random number generator of the match
      * @return A 'defensive player' object
      */
-    public Player getAnyDefensivePlayer() {
+    public Player getAnyDefensivePlayer(SplittableRandom rnd) {
         
         Set<Player> players = skilledLineup.keySet();
         
@@ -720,9 +710,10 @@ public class Team extends utility.Team {
     /**
      * Get a random player who can be characterized as 'defensive' having a specific position
      * @param xPos The X axis position
+     * @param rnd The random number generator of the match
      * @return A 'defensive player' object
      */
-    public Player getAnyDefensivePlayer(Tactics.TacticPosition xPos) {
+    public Player getAnyDefensivePlayer(Tactics.TacticPosition xPos, SplittableRandom rnd) {
         
         Set<Player> players = skilledLineup.keySet();
         
@@ -768,10 +759,11 @@ public class Team extends utility.Team {
      * Get a random player who can be characterized as 'defensive' having a specific position and it is not specified as 'excluded'
      * @param xPos The X axis position
      * @param excludedPlayer The player to be excluded from the candidates for the result
+     * @param rnd The random number generator of the match
      * @return A 'defensive player' object
      * @see #getPlayerByPosition(int, Tactics.TacticPosition, Player)
      */
-    public Player getAnyDefensivePlayer(Tactics.TacticPosition xPos, Player excludedPlayer) {
+    public Player getAnyDefensivePlayer(Tactics.TacticPosition xPos, Player excludedPlayer, SplittableRandom rnd) {
         
         Set<Player> players = skilledLineup.keySet();
         
@@ -829,140 +821,248 @@ public class Team extends utility.Team {
      * @return The average of an attribute's skills for players of a specific position
      */
     public double getAverageFromAttribute(int position, String attribute) {
+        return getAverageFromAttribute(position, PlayerAttributes.get(attribute));
+    }
     
-        // decode the mappings
-        
-        Tactics.TacticLine posLine = null;
+    /**
+     * Utility function which calculates the average skill of players for a specific attribute grouped by their position
+     * @param position The Y axis position
+     * @param attribute The attribute
+     * @return The average of an attribute's skills for players of a specific position
+     */
+    public double getAverageFromAttribute(int position, PlayerAttribute attribute) {
+        return getLineStrengths().averages[position - 1][attribute.getOrdinal()];
+    }
+    
+    /**
+     * Get the average skill of attributes relating to a specific action for players of a specific position
+     * @param position The Y axis position
+     * @param action The action constant
+     * @return The average skill per player position per action
+     */
+    public double getAverageFromAction(int position, byte action) {
+        return getAverageFromAttribute(position, actionAttributes.get(action));
+    }
+    
+    /**
+     * Utility function which calculates a defender who gets a rebound from an attacking effort of the opponent
+     * @param rnd The random number generator of the match
+     * @return A rebounder's player object
+     */
+    public Player getDefensiveRebounder(SplittableRandom rnd) {
         
-        switch (position) {
-        case Constants.GK:
-            posLine = Tactics.TacticLine.GK;
-            break;
-        case Constants.DEFENDER:
-            posLine = Tactics.TacticLine.DEFENDER;
-            break;
-        case Constants.MIDFIELDER:
-            posLine = Tactics.TacticLine.MIDFIELDER;
-            break;
-        case Constants.FORWARD:
-            posLine = Tactics.TacticLine.FORWARD;
-            break;
-        }
+        Player [] defenders = getLineupSelection().defenders;
         
-        if (posLine.equals(Tactics.TacticLine.GK)) {
-            return getGK().getSkill(attribute);
-        }
+        int rebounderIndex = rnd.nextInt(defenders.length);
         
-        Set<Player> players = skilledLineup.keySet();
+        return defenders[rebounderIndex];   
+    }
+    
+    /**
+     * The players of the lineup eligible for rebounds and goals, along with the weighted selection tables among them. A selection is never
+     * modified once built, so that it is shared by matches played at the same time.
+     */
+    private static final class LineupSelection {
         
-        ArrayList<Player> posPlayers = new ArrayList<Player>();
+        final Player [] defenders;
+        final Player [] reboundingPlayers;
+        final AliasTable reboundingWeights;
+        final Player [] scoringPlayers;
+        final AliasTable scoringWeights;
         
-        for (Player player:players) {
-            if (skilledLineup.get(player).equals(posLine)) posPlayers.add(player);
+        LineupSelection(HashMap<Player, Tactics.TacticLine> skilledLineup) {
+            
+            ArrayList<Player> candidateRebounders = new ArrayList<Player>();
+            
+            for (Player player:skilledLineup.keySet()) {
+                if (skilledLineup.get(player).equals(Tactics.TacticLine.DEFENDER)) candidateRebounders.add(player);
+            }
+            
+            defenders = candidateRebounders.toArray(new Player[candidateRebounders.size()]);
+            
+            ArrayList<Player> players = new ArrayList<Player>();
+            reboundingWeights = getLineupWeights(skilledLineup, players, false);
+            reboundingPlayers = players.toArray(new Player[players.size()]);
+            
+            players = new ArrayList<Player>();
+            scoringWeights = getLineupWeights(skilledLineup, players, true);
+            scoringPlayers = players.toArray(new Player[players.size()]);
         }
+    }
+    
+    /**
+     * 
+     * @return The selection of players from the current lineup; built on first use and discarded whenever the lineup changes
+     */
+    private LineupSelection getLineupSelection() {
         
-        double totalSkill = 0;
+        LineupSelection selection = lineupSelection;
         
-        for (int i = 0; i < posPlayers.size(); i++) {
-            totalSkill += posPlayers.get(i).getSkill(attribute);
+        // Matches racing to build the selection build identical ones, so whichever is kept makes no difference
+        if (selection == null) {
+            selection = new LineupSelection(skilledLineup);
+            lineupSelection = selection;
         }
         
-        return totalSkill / (double) posPlayers.size();
+        return selection;
     }
     
     /**
-     * Get the average skill of attributes relating to a specific action for players of a specific position
-     * @param position The Y axis position
-     * @param action The action constant
-     * @return The average skill per player position per action
+     * Discards the weighted selection tables of the lineup, so that they are built again from the new lineup
      */
-    public double getAverageFromAction(int position, byte action) {
-        return getAverageFromAttribute(position, actionAttributes.get(action));
+    private void clearLineupSelection() {
+        lineupSelection = null;
     }
     
     /**
-     * Utility function which calculates a defender who gets a rebound from an attacking effort of the opponent
-     * @return A rebounder's player object
+     * The average skills and the strengths of the tactics lines of the lineup, indexed by tactics line (as in the position constants) and 
+     * attribute. A GK line without a goalkeeper and an empty outfield line have NaN averages. The strengths are never modified once built, 
+     * so that they are shared by matches played at the same time; they keep the version of the player skills they were calculated from, 
+     * so that they are replaced as soon as any skill changes.
      */
-    public Player getDefensiveRebounder() {
+    private static final class LineStrengths {
         
-        Set<Player> players = skilledLineup.keySet();
-        ArrayList<Player> candidateRebounders = new ArrayList<Player>();
+        final double [][] averages = new double[Tactics.TacticLine.values().length][PlayerAttributes.size()];
+        final double [] targetStrengths = new double[Tactics.TacticLine.values().length];
         
-        for (Player player:players) {
-            if (skilledLineup.get(player).equals(Tactics.TacticLine.DEFENDER)) candidateRebounders.add(player);
+        final int skillsVersion;
+        
+        LineStrengths(HashMap<Player, Tactics.TacticLine> skilledLineup) {
+            
+            int [] lineCounts = new int[targetStrengths.length];
+            Player gk = null;
+            
+            // Taken before the skills are read, so that a change in the meantime makes the strengths stale
+            skillsVersion = Player.getSkillsVersion();
+            
+            // Summed in lineup order, as the averages have always been
+            for (Player player:skilledLineup.keySet()) {
+                
+                int line = skilledLineup.get(player).ordinal();
+                
+                if (line == Tactics.TacticLine.GK.ordinal()) {
+                    if (gk == null) gk = player;
+                    continue;
+                }
+                
+                ++lineCounts[line];
+                
+                for (PlayerAttribute attribute:PlayerAttributes.getAll()) {
+                    averages[line][attribute.getOrdinal()] += player.getSkill(attribute);
+                }
+            }
+            
+            for (int line = 0; line < averages.length; line++) {
+                
+                if (line == Tactics.TacticLine.GK.ordinal()) {
+                    
+                    targetStrengths[line] = 1;
+                    
+                    for (PlayerAttribute attribute:PlayerAttributes.getAll()) {
+                        averages[line][attribute.getOrdinal()] = (gk != null) ? gk.getSkill(attribute) : Double.NaN;
+                    }
+                    
+                    continue;
+                }
+                
+                targetStrengths[line] = lineCounts[line] / RealWorldMapping.defaultTLCardinality;
+                
+                for (int i = 0; i < averages[line].length; i++) {
+                    averages[line][i] /= (double) lineCounts[line];
+                }
+            }
         }
+    }
+    
+    /**
+     * 
+     * @return The average skills and strengths of the tactics lines of the current lineup; built on first use and again whenever the 
+     * lineup or the skills of any player have changed since
+     */
+    private LineStrengths getLineStrengths() {
         
-        int rebounderIndex = rnd.nextInt(candidateRebounders.size());
+        LineStrengths strengths = lineStrengths;
+        
+        if (strengths == null || strengths.skillsVersion != Player.getSkillsVersion()) {
+            strengths = new LineStrengths(skilledLineup);
+            lineStrengths = strengths;
+        }
         
-        return candidateRebounders.get(rebounderIndex);   
+        return strengths;
     }
     
     /**
-     * Utility function: Get a random player from a group of players, with weights attributed to each player for their selection
-     * @param total The sum of the players' weights
-     * @param weightedPlayers A map of the players to their weights
-     * @return A weighted random player
+     * Discards the average skills and strengths of the tactics lines, so that they are calculated again from the new lineup
      */
-    private Player getWeightedRandom(double total, HashMap<Player, Double> weightedPlayers) {
-        double reboundIndex = rnd.nextDouble() * total;
-        double checkedWeight = 0;
-        for (Player player:weightedPlayers.keySet()) {
-            checkedWeight += weightedPlayers.get(player);
-            if (reboundIndex <= checkedWeight) {
-                return player;
+    private void clearLineStrengths() {
+        lineStrengths = null;
+    }
+    
+    /**
+     * Utility function: Collects the players of the lineup with a positive weight
+     * @param skilledLineup The lineup
+     * @param players The list the players are added to
+     * @param scoring True for the scoring weights, false for the rebounding weights
+     * @return The weights of the collected players, or null if there are none
+     */
+    private static AliasTable getLineupWeights(HashMap<Player, Tactics.TacticLine> skilledLineup, ArrayList<Player> players, boolean scoring) {
+        
+        ArrayList<Double> weights = new ArrayList<Double>();
+        
+        for (Player player:skilledLineup.keySet()) {
+            
+            double weight;
+            
+            if (scoring) {
+                weight = RealWorldMapping.getScoringWeight(skilledLineup.get(player));
+            } else {
+                weight = RealWorldMapping.getReboundingWeight(skilledLineup.get(player));
+            }
+            
+            if (weight > 0) {
+                players.add(player);
+                weights.add(weight);
             }
         }
-        return null;
+        
+        if (players.size() == 0) return null;
+        
+        double [] playerWeights = new double[weights.size()];
+        
+        for (int i = 0; i < playerWeights.length; i++) {
+            playerWeights[i] = weights.get(i);
+        }
+        
+        return new AliasTable(playerWeights);
     }
     
     /**
      * Calculate a rebounder of the attacking team from an attacking effort
+     * @param rnd The random number generator of the match
      * @return A weighted random player object of the attacking rebounder 
      */
-    public Player getAttackingRebounder() {
+    public Player getAttackingRebounder(SplittableRandom rnd) {
         
-        Set<Player> players = skilledLineup.keySet();
-        HashMap<Player, Double> candidateRebounders = new HashMap<Player, Double>();
-        double totalReboundingWeight = 0;
-        for (Player player:players) {
-            double reboundingWeight = RealWorldMapping.getReboundingWeight(skilledLineup.get(player));
-            totalReboundingWeight += reboundingWeight;
-            candidateRebounders.put(player, reboundingWeight);
-        }
+        LineupSelection selection = getLineupSelection();
+        
+        if (selection.reboundingWeights == null) return null;
         
-        return getWeightedRandom(totalReboundingWeight, candidateRebounders);
+        return selection.reboundingPlayers[selection.reboundingWeights.sample(rnd)];
     }
     
     /**
      * Finds the scorer of a goal "after the fact". Please note that the only reason to do this is when the goal scoring is 'decided' independently
      * of the current state; i.e. a cross or penalty kick. In these example cases we need to 'pick' a player to take the role of the goal scorer
      * (or the role of the player making an attempt on goal, for that matter)
+     * @param rnd The random number generator of the match
      * @return The goal scorer according to some weighted ditribution among players
      */
-    public Player getGoalScorer() {
-        
-        HashMap<Player, Tactics.TacticLine> lineup = this.skilledLineup;
-        HashMap<Player, Double> scoringLineup = new HashMap<Player, Double>();
+    public Player getGoalScorer(SplittableRandom rnd) {
         
-        Set<Player> players = lineup.keySet();
+        LineupSelection selection = getLineupSelection();
         
-        double totalScoringWeight = 0;
-        for (Player currentPlayer:players) {
-            double currentScoringWeight = RealWorldMapping.getScoringWeight(lineup.get(currentPlayer));
-            totalScoringWeight += currentScoringWeight;
-            scoringLineup.put(currentPlayer, currentScoringWeight);
-        }
+        if (selection.scoringWeights == null) return null; // default: no player is 'eligible'
         
-        double scorerIndex = rnd.nextDouble() * totalScoringWeight;
-        
-        double checkedScoringWeight = 0;
-        for (Player currentPlayer:players) {
-            checkedScoringWeight += scoringLineup.get(currentPlayer);
-            if (scorerIndex <= checkedScoringWeight) {
-                return currentPlayer;
-            }
-        }
-        return null; // default: no player is 'eligible'
+        return selection.scoringPlayers[selection.scoringWeights.sample(rnd)];
     }
 }
@@ -18,10 +18,10 @@
 package gameplay;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import core.MatchReport;
-import core.PlayerStats;
 
 /**
  * This class is used for the 'gameplay' functionality relating to a player object. By 'gameplay', I refer to the reference host application.
@@ -35,14 +35,16 @@ import core.PlayerStats;
 public class Player extends utility.Player {
     
     private int position;
-    private HashMap<String, Double> skills = new HashMap<String, Double>();
+    private double [] skills = new double[PlayerAttributes.size()];
+    
+    // Incremented on every change of the skills of any player, so that values calculated from them can be checked for being current 
+    // with a single read
+    private static final AtomicInteger skillsVersion = new AtomicInteger();
     
     private ArrayList<Integer> timeIn = new ArrayList<Integer>();
     private ArrayList<Integer> timeOut = new ArrayList<Integer>();
     
     private boolean [] posRep = new boolean[7];
-    
-    private PlayerStats stats = new PlayerStats();
 
     /**
      * Initialize the player according to 'gameplay' functionality
@@ -55,6 +57,7 @@ public class Player extends utility.Player {
         super(shirtNo, firstName, lastName);
         this.position = position;
         convertPosToRep(this.position);
+        Arrays.fill(skills, Double.NaN);
     }
     
     /**
@@ -224,23 +227,62 @@ public class Player extends utility.Player {
      * @param attribute The player's attribute
      * @param rate The rate of the attribute
      */
-    public void addSkill(String attribute, Double rate) {
-        skills.put(attribute, rate);
+    public void addSkill(PlayerAttribute attribute, double rate) {
+        skills[attribute.getOrdinal()] = rate;
+        skillsVersion.incrementAndGet();
     }
     
-    public Double getSkill(String attribute) {
-        return skills.get(attribute);
+    /**
+     * Getter
+     * @return The number of changes of the skills of all players so far
+     */
+    public static int getSkillsVersion() {
+        return skillsVersion.get();
     }
     
-    public String toString() {
-        return this.getFamilyName() + " " + this.getFirstName();
+    /**
+     * Get the rate of a player's skill
+     * @param attribute The player's attribute
+     * @return The rate of the attribute, NaN if it has not been assigned
+     */
+    public double getSkill(PlayerAttribute attribute) {
+        return skills[attribute.getOrdinal()];
+    }
+    
+    /**
+     * Add a player's skill by the attribute name, as stored in the database
+     * @param attribute The player's attribute name
+     * @param rate The rate of the attribute
+     */
+    public void addSkill(String attribute, Double rate) {
+        
+        PlayerAttribute playerAttribute = PlayerAttributes.get(attribute);
+        
+        if (playerAttribute == null) {
+            System.out.println("Unknown player attribute: " + attribute);
+            return;
+        }
+        
+        addSkill(playerAttribute, rate != null ? rate : Double.NaN);
     }
     
-    public PlayerStats getStats() {
-        return stats;
+    /**
+     * Get the rate of a player's skill by the attribute name
+     * @param attribute The player's attribute name
+     * @return The rate of the attribute, or null if the attribute is unknown or has not been assigned
+     */
+    public Double getSkill(String attribute) {
+        
+        PlayerAttribute playerAttribute = PlayerAttributes.get(attribute);
+        
+        if (playerAttribute == null || Double.isNaN(getSkill(playerAttribute))) {
+            return null;
+        }
+        
+        return getSkill(playerAttribute);
     }
     
-    public void clearStats() {
-        this.stats = new PlayerStats();
+    public String toString() {
+        return this.getFamilyName() + " " + this.getFirstName();
     }
 }
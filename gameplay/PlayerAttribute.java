@@ -28,6 +28,7 @@ package gameplay;
 public class PlayerAttribute {
     
     private String name;
+    private int ordinal = -1;
     private Integer [] optimalPositions;
     private boolean outfield;
     private boolean sideAffected = false;
@@ -82,6 +83,18 @@ public class PlayerAttribute {
         return this.name;
     }
     
+    /**
+     * Getter
+     * @return The index of the attribute in the list of all player attributes, used for indexing the players' skills
+     */
+    public int getOrdinal() {
+        return this.ordinal;
+    }
+    
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+    
     public Integer [] getOptimalPositions() {
         return this.optimalPositions;
     }
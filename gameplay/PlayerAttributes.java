@@ -18,6 +18,9 @@
 package gameplay;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * Utility class for gathering all the player attributes supported by the match engine
@@ -28,47 +31,70 @@ import java.util.ArrayList;
 
 public class PlayerAttributes {
     
-    private static ArrayList<PlayerAttribute> all = null;
+    private static final Integer [] midfield = {3};
+    private static final Integer [] defmidfield = {2,3};
+    private static final Integer [] goalkeeper = {1};
+    private static final Integer [] forward = {4};
+    private static final Integer [] midforward = {3,4};
+    
+    private static ArrayList<PlayerAttribute> all = new ArrayList<PlayerAttribute>();
+    private static final List<PlayerAttribute> readOnlyAll = Collections.unmodifiableList(all);
+    private static HashMap<String, PlayerAttribute> byName = new HashMap<String, PlayerAttribute>();
+    
+    public static final PlayerAttribute PASSING = add(new PlayerAttribute("Passing", midfield, true));
+    public static final PlayerAttribute TEAMWORK = add(new PlayerAttribute("Teamwork", null, true));
+    public static final PlayerAttribute BALL_CONTROL = add(new PlayerAttribute("BallControl", midfield, true));
+    public static final PlayerAttribute THROW_IN = add(new PlayerAttribute("ThrowIn", null, true));
+    public static final PlayerAttribute DRIBBLING = add(new PlayerAttribute("Dribbling", midfield, true));
+    public static final PlayerAttribute CROSSING = add(new PlayerAttribute("Crossing", midfield, true, true));
+    public static final PlayerAttribute ZONAL_MARKING = add(new PlayerAttribute("ZonalMarking", midfield, true));
+    public static final PlayerAttribute MAN_MARKING = add(new PlayerAttribute("ManMarking", defmidfield, true));
+    public static final PlayerAttribute RUSHING_OUT = add(new PlayerAttribute("RushingOut", goalkeeper, false));
+    public static final PlayerAttribute HANDLING = add(new PlayerAttribute("Handling", goalkeeper, false));
+    public static final PlayerAttribute SHOOTING = add(new PlayerAttribute("Shooting", forward, true));
+    public static final PlayerAttribute PACE = add(new PlayerAttribute("Pace", midforward, true, true));
+    public static final PlayerAttribute HEADING = add(new PlayerAttribute("Heading", forward, true));
+    public static final PlayerAttribute RIGHT_FOOT = add(new PlayerAttribute("RightFoot", null, true, false, true, false));
+    public static final PlayerAttribute LEFT_FOOT = add(new PlayerAttribute("LeftFoot", null, true, false, false, true));
     
     /**
      * Getter
-     * @return All player attributes supported by the match engine
+     * @return All player attributes supported by the match engine, indexed by their ordinal. The list is read-only, as the skills of the 
+     * players are kept by the ordinals
      */
-    public static ArrayList<PlayerAttribute> getAll() {
-        if (all == null) init();
-        return all;
+    public static List<PlayerAttribute> getAll() {
+        return readOnlyAll;
     }
     
     /**
-     * Initialization of the player attributes. The hardcoded attributes are loaded on the class
-     *
+     * 
+     * @return The number of player attributes supported by the match engine
      */
-    private static void init() {
-        
-        Integer [] midfield = {3};
-        Integer [] defmidfield = {2,3};
-        Integer [] goalkeeper = {1};
-        Integer [] forward = {4};
-        Integer [] midforward = {3,4};
-        
-        all = new ArrayList<PlayerAttribute>();
+    public static int size() {
+        return all.size();
+    }
+    
+    /**
+     * Find a player attribute by its name, as used in the database and the environment templates
+     * @param name The attribute name
+     * @return The attribute, or null if the match engine does not support an attribute of that name
+     */
+    public static PlayerAttribute get(String name) {
+        return byName.get(name);
+    }
+    
+    /**
+     * Register an attribute in the order of its definition, which is also its ordinal
+     * @param attribute The attribute
+     * @return The registered attribute
+     */
+    private static PlayerAttribute add(PlayerAttribute attribute) {
         
-        all.add(new PlayerAttribute("Passing", midfield, true));
-        all.add(new PlayerAttribute("Teamwork", null, true));
-        all.add(new PlayerAttribute("BallControl", midfield, true));
-        all.add(new PlayerAttribute("ThrowIn", null, true));
-        all.add(new PlayerAttribute("Dribbling", midfield, true));
-        all.add(new PlayerAttribute("Crossing", midfield, true, true));
-        all.add(new PlayerAttribute("ZonalMarking", midfield, true));
-        all.add(new PlayerAttribute("ManMarking", defmidfield, true));
-        all.add(new PlayerAttribute("RushingOut", goalkeeper, false));
-        all.add(new PlayerAttribute("Handling", goalkeeper, false));
-        all.add(new PlayerAttribute("Shooting", forward, true));
-        all.add(new PlayerAttribute("Pace", midforward, true, true));
-        all.add(new PlayerAttribute("Heading", forward, true));
-        all.add(new PlayerAttribute("RightFoot", null, true, false, true, false));
-        all.add(new PlayerAttribute("LeftFoot", null, true, false, false, true));
+        attribute.setOrdinal(all.size());
+        all.add(attribute);
+        byName.put(attribute.getName(), attribute);
         
+        return attribute;
     }
 
 }
@@ -31,7 +31,7 @@ public class Team extends utility.Team {
     
     private int reputation;
     private ArrayList<Player> squad;
-    private static Random rnd = new Random(); 
+    private Random rnd = new Random();
 
     /**
      * The initialization of the team 
@@ -45,6 +45,14 @@ public class Team extends utility.Team {
         this.squad = squad;
     }
     
+    /**
+     * Seeds the generation of the player attributes, so that the same environment is generated again
+     * @param seed The seed
+     */
+    public void setSeed(long seed) {
+        this.rnd = new Random(seed);
+    }
+    
     public int getReputation() {
         return this.reputation;
     }
@@ -75,7 +83,7 @@ public class Team extends utility.Team {
                 // System.out.println("Initial rate: " + rate);
                 rate = GkFilter(PosFilter(rate, attribute, currentPlayer), attribute, currentPlayer);
                 if (rate < 0) rate = 0;
-                currentPlayer.addSkill(attribute.getName(), rate);
+                currentPlayer.addSkill(attribute, rate);
             }
         }
         return squad;
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package league;
+
+import core.Team;
+
+/**
+ * A match of the fixture list of a league
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class Fixture {
+    
+    private final int matchday;
+    private final Team homeTeam;
+    private final Team awayTeam;
+    
+    public Fixture(int matchday, Team homeTeam, Team awayTeam) {
+        this.matchday = matchday;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+    
+    public int getMatchday() {
+        return matchday;
+    }
+    
+    public Team getHomeTeam() {
+        return homeTeam;
+    }
+    
+    public Team getAwayTeam() {
+        return awayTeam;
+    }
+    
+    public String toString() {
+        return matchday + ": " + homeTeam.getName() + " - " + awayTeam.getName();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package league;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import core.Match;
+import core.ProbModelHandle;
+import core.Team;
+
+/**
+ * A league of teams playing a double round-robin: every team plays every other team twice, once at home and once away. A season is simulated
+ * matchday by matchday; the matches of a matchday are played in parallel on a fork-join pool and their results are applied to the standings
+ * in the order of the fixture list. Many seasons are simulated in parallel as well, by splitting them recursively among the pool threads.
+ * <p>
+ * Every match of a season is seeded from the seed of the season in the order of the fixture list, so a season played again with the same
+ * seed ends in the same standings however its matches are scheduled.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class League {
+    
+    private final List<Team> teams;
+    private final ProbModelHandle probModelHandle;
+    private final ForkJoinPool pool;
+    
+    private final List<List<Fixture>> matchdays;
+    
+    /**
+     * 
+     * @param teams The teams of the league, with their lineups aligned
+     * @param probModelFilename The probability model filename
+     */
+    public League(List<Team> teams, String probModelFilename) {
+        this(teams, probModelFilename, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * 
+     * @param teams The teams of the league, with their lineups aligned
+     * @param probModelFilename The probability model filename
+     * @param pool The pool the matches are played on
+     */
+    public League(List<Team> teams, String probModelFilename, ForkJoinPool pool) {
+        
+        if (teams.size() < 2) {
+            throw new IllegalArgumentException("A league needs at least two teams");
+        }
+        
+        this.teams = Collections.unmodifiableList(new ArrayList<Team>(teams));
+        this.probModelHandle = ProbModelHandle.forFile(probModelFilename);
+        this.pool = pool;
+        this.matchdays = createFixtureList(this.teams);
+    }
+    
+    /**
+     * Creates a double round-robin fixture list with the circle method: the first team stays in place while the others rotate around it,
+     * one place per matchday. The second half of the season repeats the first with home and away teams swapped.
+     * @param teams The teams
+     * @return The fixtures of every matchday
+     */
+    private static List<List<Fixture>> createFixtureList(List<Team> teams) {
+        
+        ArrayList<Team> circle = new ArrayList<Team>(teams);
+        
+        // A team drawn against the missing team has a rest on that matchday
+        if (circle.size() % 2 != 0) {
+            circle.add(null);
+        }
+        
+        int rounds = circle.size() - 1;
+        int pairs = circle.size() / 2;
+        
+        ArrayList<List<Fixture>> matchdays = new ArrayList<List<Fixture>>();
+        
+        for (int round = 0; round < rounds; round++) {
+            
+            ArrayList<Fixture> fixtures = new ArrayList<Fixture>();
+            
+            for (int pair = 0; pair < pairs; pair++) {
+                
+                Team team1 = circle.get(pair);
+                Team team2 = circle.get(circle.size() - 1 - pair);
+                
+                if (team1 == null || team2 == null) continue;
+                
+                // The fixed team alternates between home and away
+                if (pair == 0 && round % 2 != 0) {
+                    fixtures.add(new Fixture(round + 1, team2, team1));
+                } else {
+                    fixtures.add(new Fixture(round + 1, team1, team2));
+                }
+            }
+            
+            matchdays.add(fixtures);
+            
+            circle.add(1, circle.remove(circle.size() - 1));
+        }
+        
+        for (int round = 0; round < rounds; round++) {
+            
+            ArrayList<Fixture> fixtures = new ArrayList<Fixture>();
+            
+            for (Fixture fixture:matchdays.get(round)) {
+                fixtures.add(new Fixture(rounds + round + 1, fixture.getAwayTeam(), fixture.getHomeTeam()));
+            }
+            
+            matchdays.add(fixtures);
+        }
+        
+        return Collections.unmodifiableList(matchdays);
+    }
+    
+    public List<Team> getTeams() {
+        return teams;
+    }
+    
+    /**
+     * 
+     * @return The fixtures of every matchday, in order
+     */
+    public List<List<Fixture>> getMatchdays() {
+        return matchdays;
+    }
+    
+    /**
+     * Simulates a season
+     * @param seed The seed of the season
+     * @return The final standings
+     */
+    public Standings playSeason(long seed) {
+        return pool.invoke(new SeasonTask(seed));
+    }
+    
+    /**
+     * Simulates a season many times over
+     * @param seasons The number of seasons
+     * @param relegationPlaces The number of places at the bottom of the table relegating a team
+     * @param seed The seed of the simulation; season i is seeded with the i-th number drawn from it
+     * @return The distribution of the final standings
+     */
+    public SeasonProjection simulateSeasons(int seasons, int relegationPlaces, long seed) {
+        
+        if (relegationPlaces < 0 || relegationPlaces > teams.size()) {
+            throw new IllegalArgumentException("Invalid number of relegation places: " + relegationPlaces);
+        }
+        
+        long [] seasonSeeds = new long[seasons];
+        SplittableRandom seeds = new SplittableRandom(seed);
+        
+        for (int season = 0; season < seasons; season++) {
+            seasonSeeds[season] = seeds.nextLong();
+        }
+        
+        return pool.invoke(new SeasonsTask(seasonSeeds, 0, seasons, relegationPlaces));
+    }
+    
+    /**
+     * Plays the matches of a season matchday by matchday
+     */
+    private class SeasonTask extends RecursiveTask<Standings> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final long seed;
+        
+        SeasonTask(long seed) {
+            this.seed = seed;
+        }
+        
+        protected Standings compute() {
+            
+            Standings standings = new Standings(teams);
+            SplittableRandom seeds = new SplittableRandom(seed);
+            
+            for (List<Fixture> fixtures:matchdays) {
+                
+                ArrayList<MatchTask> matches = new ArrayList<MatchTask>();
+                
+                for (Fixture fixture:fixtures) {
+                    matches.add(new MatchTask(fixture, seeds.nextLong()));
+                }
+                
+                invokeAll(matches);
+                
+                for (MatchTask match:matches) {
+                    standings.apply(match.fixture, match.join());
+                }
+            }
+            
+            return standings;
+        }
+    }
+    
+    /**
+     * Plays the match of a fixture
+     */
+    private class MatchTask extends RecursiveTask<Match> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final Fixture fixture;
+        private final long seed;
+        
+        MatchTask(Fixture fixture, long seed) {
+            this.fixture = fixture;
+            this.seed = seed;
+        }
+        
+        protected Match compute() {
+            
+            Match match = new Match(fixture.getHomeTeam(), fixture.getAwayTeam(), probModelHandle);
+            match.setSeed(seed);
+            match.simulate();
+            
+            return match;
+        }
+    }
+    
+    /**
+     * Plays a range of seasons, splitting it in halves until a single season is left
+     */
+    private class SeasonsTask extends RecursiveTask<SeasonProjection> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final long [] seeds;
+        private final int from;
+        private final int to;
+        private final int relegationPlaces;
+        
+        SeasonsTask(long [] seeds, int from, int to, int relegationPlaces) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+            this.relegationPlaces = relegationPlaces;
+        }
+        
+        protected SeasonProjection compute() {
+            
+            SeasonProjection projection = new SeasonProjection(teams, relegationPlaces);
+            
+            if (to - from == 1) {
+                projection.addSeason(new SeasonTask(seeds[from]).compute());
+            } else if (to - from > 1) {
+                
+                int middle = (from + to) >>> 1;
+                
+                SeasonsTask firstHalf = new SeasonsTask(seeds, from, middle, relegationPlaces);
+                SeasonsTask secondHalf = new SeasonsTask(seeds, middle, to, relegationPlaces);
+                
+                invokeAll(firstHalf, secondHalf);
+                
+                projection.merge(firstHalf.join());
+                projection.merge(secondHalf.join());
+            }
+            
+            return projection;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package league;
+
+import java.util.List;
+
+import core.Team;
+
+/**
+ * The distribution of the final standings of many simulations of a season: for every team, the probability of finishing in each position,
+ * of winning the title and of being relegated, and its average points. Projections of separate batches of seasons are merged into one.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class SeasonProjection {
+    
+    private final List<Team> teams;
+    private final int relegationPlaces;
+    
+    private int seasons = 0;
+    
+    // Number of seasons by team and final position
+    private final int [][] positions;
+    private final long [] points;
+    
+    SeasonProjection(List<Team> teams, int relegationPlaces) {
+        this.teams = teams;
+        this.relegationPlaces = relegationPlaces;
+        this.positions = new int[teams.size()][teams.size()];
+        this.points = new long[teams.size()];
+    }
+    
+    /**
+     * Adds the final standings of a season
+     * @param standings The final standings
+     */
+    void addSeason(Standings standings) {
+        
+        seasons++;
+        
+        for (int team = 0; team < teams.size(); team++) {
+            positions[team][standings.getPosition(teams.get(team)) - 1]++;
+            points[team] += standings.getRow(teams.get(team)).getPoints();
+        }
+    }
+    
+    /**
+     * Adds the seasons of another projection of the same league
+     * @param projection The other projection
+     */
+    void merge(SeasonProjection projection) {
+        
+        seasons += projection.seasons;
+        
+        for (int team = 0; team < teams.size(); team++) {
+            
+            for (int position = 0; position < teams.size(); position++) {
+                positions[team][position] += projection.positions[team][position];
+            }
+            
+            points[team] += projection.points[team];
+        }
+    }
+    
+    public int getSeasons() {
+        return seasons;
+    }
+    
+    public int getRelegationPlaces() {
+        return relegationPlaces;
+    }
+    
+    /**
+     * 
+     * @param team A team of the league
+     * @param position The position in the table, starting from 1
+     * @return The probability of the team finishing in the position
+     */
+    public double getPositionProbability(Team team, int position) {
+        return (seasons == 0) ? 0 : (double) positions[indexOf(team)][position - 1] / seasons;
+    }
+    
+    public double getTitleProbability(Team team) {
+        return getPositionProbability(team, 1);
+    }
+    
+    public double getRelegationProbability(Team team) {
+        
+        double probability = 0;
+        
+        for (int position = teams.size() - relegationPlaces + 1; position <= teams.size(); position++) {
+            probability += getPositionProbability(team, position);
+        }
+        
+        return probability;
+    }
+    
+    public double getAveragePoints(Team team) {
+        return (seasons == 0) ? 0 : (double) points[indexOf(team)] / seasons;
+    }
+    
+    private int indexOf(Team team) {
+        
+        for (int index = 0; index < teams.size(); index++) {
+            if (teams.get(index) == team) return index;
+        }
+        
+        throw new IllegalArgumentException("Team not in the league: " + team.getName());
+    }
+    
+    public String toString() {
+        
+        StringBuilder projection = new StringBuilder();
+        
+        projection.append("Seasons: " + seasons + "\n");
+        
+        for (Team team:teams) {
+            projection.append(team.getName() + ": title " + String.format("%.3f", getTitleProbability(team)) + ", relegation " + 
+                    String.format("%.3f", getRelegationProbability(team)) + ", points " + String.format("%.1f", getAveragePoints(team)) + "\n");
+        }
+        
+        return projection.toString();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package league;
+
+import gameplay.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import core.Match;
+import core.Team;
+
+/**
+ * The standings of a league: the record of every team, ordered by points, goal difference and goals scored, and the appearances and
+ * goals of every player. The results are applied in the order of the fixture list.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class Standings {
+    
+    public static final int POINTS_WIN = 3;
+    public static final int POINTS_DRAW = 1;
+    
+    /**
+     * The record of a team
+     */
+    public static class Row {
+        
+        private final Team team;
+        private final int order;
+        
+        private int played = 0;
+        private int won = 0;
+        private int drawn = 0;
+        private int lost = 0;
+        private int goalsFor = 0;
+        private int goalsAgainst = 0;
+        
+        Row(Team team, int order) {
+            this.team = team;
+            this.order = order;
+        }
+        
+        void addResult(int goalsFor, int goalsAgainst) {
+            
+            played++;
+            
+            if (goalsFor > goalsAgainst) {
+                won++;
+            } else if (goalsFor == goalsAgainst) {
+                drawn++;
+            } else {
+                lost++;
+            }
+            
+            this.goalsFor += goalsFor;
+            this.goalsAgainst += goalsAgainst;
+        }
+        
+        public Team getTeam() {
+            return team;
+        }
+        
+        public int getPlayed() {
+            return played;
+        }
+        
+        public int getWon() {
+            return won;
+        }
+        
+        public int getDrawn() {
+            return drawn;
+        }
+        
+        public int getLost() {
+            return lost;
+        }
+        
+        public int getGoalsFor() {
+            return goalsFor;
+        }
+        
+        public int getGoalsAgainst() {
+            return goalsAgainst;
+        }
+        
+        public int getGoalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+        
+        public int getPoints() {
+            return POINTS_WIN * won + POINTS_DRAW * drawn;
+        }
+        
+        public String toString() {
+            return team.getName() + " " + played + " " + won + " " + drawn + " " + lost + " " + goalsFor + "-" + goalsAgainst + " " + getPoints();
+        }
+    }
+    
+    /**
+     * The appearances and goals of a player
+     */
+    public static class PlayerRecord {
+        
+        private final Player player;
+        private final Team team;
+        
+        private int appearances = 0;
+        private int goals = 0;
+        
+        PlayerRecord(Player player, Team team) {
+            this.player = player;
+            this.team = team;
+        }
+        
+        public Player getPlayer() {
+            return player;
+        }
+        
+        public Team getTeam() {
+            return team;
+        }
+        
+        public int getAppearances() {
+            return appearances;
+        }
+        
+        public int getGoals() {
+            return goals;
+        }
+    }
+    
+    // Table order: points, goal difference, goals scored and, for teams level on all of them, the order the teams were given in
+    private static final Comparator<Row> TABLE_ORDER = new Comparator<Row>() {
+        public int compare(Row row1, Row row2) {
+            
+            if (row1.getPoints() != row2.getPoints()) {
+                return row2.getPoints() - row1.getPoints();
+            }
+            
+            if (row1.getGoalDifference() != row2.getGoalDifference()) {
+                return row2.getGoalDifference() - row1.getGoalDifference();
+            }
+            
+            if (row1.getGoalsFor() != row2.getGoalsFor()) {
+                return row2.getGoalsFor() - row1.getGoalsFor();
+            }
+            
+            return row1.order - row2.order;
+        }
+    };
+    
+    private final IdentityHashMap<Team, Row> rows = new IdentityHashMap<Team, Row>();
+    private final ArrayList<Row> table = new ArrayList<Row>();
+    
+    private final IdentityHashMap<Player, PlayerRecord> players = new IdentityHashMap<Player, PlayerRecord>();
+    private final ArrayList<PlayerRecord> playerRecords = new ArrayList<PlayerRecord>();
+    
+    /**
+     * 
+     * @param teams The teams of the league
+     */
+    public Standings(List<Team> teams) {
+        for (Team team:teams) {
+            Row row = new Row(team, table.size());
+            rows.put(team, row);
+            table.add(row);
+        }
+    }
+    
+    /**
+     * Applies the result of a fixture
+     * @param fixture The fixture
+     * @param match The match played for the fixture
+     */
+    void apply(Fixture fixture, Match match) {
+        
+        Team homeTeam = fixture.getHomeTeam();
+        Team awayTeam = fixture.getAwayTeam();
+        
+        int homeGoals = match.getStats(homeTeam).getGoalsScored();
+        int awayGoals = match.getStats(awayTeam).getGoalsScored();
+        
+        rows.get(homeTeam).addResult(homeGoals, awayGoals);
+        rows.get(awayTeam).addResult(awayGoals, homeGoals);
+        
+        applyPlayers(homeTeam, match);
+        applyPlayers(awayTeam, match);
+        
+        Collections.sort(table, TABLE_ORDER);
+    }
+    
+    private void applyPlayers(Team team, Match match) {
+        
+        for (Player player:match.getAppearances(team)) {
+            
+            PlayerRecord record = players.get(player);
+            
+            if (record == null) {
+                record = new PlayerRecord(player, team);
+                players.put(player, record);
+                playerRecords.add(record);
+            }
+            
+            record.appearances++;
+            record.goals += match.getStats(player).getGoals();
+        }
+    }
+    
+    /**
+     * 
+     * @return The team records in table order
+     */
+    public List<Row> getTable() {
+        return Collections.unmodifiableList(table);
+    }
+    
+    /**
+     * 
+     * @param team A team of the league
+     * @return The position of the team in the table, starting from 1
+     */
+    public int getPosition(Team team) {
+        return table.indexOf(rows.get(team)) + 1;
+    }
+    
+    public Row getRow(Team team) {
+        return rows.get(team);
+    }
+    
+    /**
+     * 
+     * @return The records of the players who have appeared in the league, in order of first appearance
+     */
+    public List<PlayerRecord> getPlayerRecords() {
+        return Collections.unmodifiableList(playerRecords);
+    }
+    
+    public PlayerRecord getPlayerRecord(Player player) {
+        return players.get(player);
+    }
+    
+    public String toString() {
+        
+        StringBuilder standings = new StringBuilder();
+        
+        for (int position = 0; position < table.size(); position++) {
+            standings.append((position + 1) + ". " + table.get(position) + "\n");
+        }
+        
+        return standings.toString();
+    }
+}
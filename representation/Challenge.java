@@ -27,13 +27,13 @@ package representation;
 
 public class Challenge extends Outcome {
     
-    public byte startTeam;
-    public byte startY;
-    public byte endTeam;
-    public byte endY;
-    public byte endX;
-    public byte challengeEnding;
-    public byte type;
+    public final byte startTeam;
+    public final byte startY;
+    public final byte endTeam;
+    public final byte endY;
+    public final byte endX;
+    public final byte challengeEnding;
+    public final byte type;
 
     /**
      * Initialization
@@ -46,6 +46,7 @@ public class Challenge extends Outcome {
      * @param type The type of challenge, e.g an aerial challenge or a challenge from a defender save
      */
     public Challenge(byte startTeam, byte startY, byte endTeam, byte endY, byte endX, byte challengeEnding, byte type) {
+        super((byte) -1);
         this.startTeam = startTeam;
         this.startY = startY;
         this.endTeam = endTeam;
@@ -53,7 +54,6 @@ public class Challenge extends Outcome {
         this.endX = endX;
         this.challengeEnding = challengeEnding;
         this.type = type;
-        this.condition = -1;
     }
     
     public String toString() {
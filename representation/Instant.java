@@ -27,21 +27,46 @@ package representation;
 
 public class Instant {
     
-    public byte Y;
-    public byte X;
-    public byte Pressure;
-    public byte Action;
-    public byte rowId; // for debugging purposes
+    public final byte Y;
+    public final byte X;
+    public final byte Pressure;
+    public final byte Action;
+    public final byte rowId; // for debugging purposes
+    public final int row; // the position of the instant in the probability model
     
-    public ResultState outcomeState;
+    public final ResultState outcomeState;
     
-    public Outcome outcome;
+    public final Outcome outcome;
     
-    public Instant(byte Y, byte X, byte Pressure, byte Action) {
+    /**
+     * Instants are immutable, as they are shared between all the matches using the same probability model
+     * @param Y The Y-axis coordinate of the initial state
+     * @param X The X-axis coordinate of the initial state
+     * @param Pressure The pressure of the initial state
+     * @param Action The action taken
+     * @param outcomeState The resulting state
+     * @param outcome The outcome of the action
+     * @param rowId The row id of the corresponding record
+     * @param row The position of the instant in the probability model
+     */
+    public Instant(byte Y, byte X, byte Pressure, byte Action, ResultState outcomeState, Outcome outcome, byte rowId, int row) {
         this.Y = Y;
         this.X = X;
         this.Pressure = Pressure;
         this.Action = Action;
+        this.outcomeState = outcomeState;
+        this.outcome = outcome;
+        this.rowId = rowId;
+        this.row = row;
+    }
+    
+    /**
+     * Creates a copy of this instant with a different resulting state
+     * @param outcomeState The resulting state of the copy
+     * @return The new instant
+     */
+    public Instant withOutcomeState(ResultState outcomeState) {
+        return new Instant(Y, X, Pressure, Action, outcomeState, outcome, rowId, row);
     }
     
     public String toString() {
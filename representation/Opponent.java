@@ -27,10 +27,10 @@ package representation;
 public class Opponent extends Outcome {
     
     // public byte condition;
-    public byte possessionChange;
+    public final byte possessionChange;
     
     public Opponent(byte condition, byte possessionChange) {
-        this.condition = condition;
+        super(condition);
         this.possessionChange = possessionChange;
     }
     
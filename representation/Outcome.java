@@ -26,7 +26,11 @@ package representation;
 
 public abstract class Outcome {
     
-    public byte condition;
+    public final byte condition;
+    
+    protected Outcome(byte condition) {
+        this.condition = condition;
+    }
     
     public abstract boolean equals(Outcome outcome);
    
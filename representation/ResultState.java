@@ -26,9 +26,9 @@ package representation;
 
 public class ResultState {
     
-    public byte X;
-    public byte Y;
-    public byte Pressure;
+    public final byte X;
+    public final byte Y;
+    public final byte Pressure;
     
     public ResultState(byte X, byte Y, byte Pressure) {
         this.X = X;
@@ -27,7 +27,7 @@ package representation;
 public class Success extends Outcome {
     
     public Success(byte condition) {
-        this.condition = condition;
+        super(condition);
     }
     
     public String toString() {
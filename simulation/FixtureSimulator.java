@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package simulation;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import core.Match;
+import core.ProbModelHandle;
+import core.Team;
+
+/**
+ * Simulates a fixture many times over, spreading the matches across all processors, and collects the distribution of the results.
+ * All the matches are played between the same team objects, which the matches only read, and the probability model is loaded once and
+ * shared by all the matches.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class FixtureSimulator {
+    
+    private final Team homeTeam;
+    private final Team awayTeam;
+    private final ProbModelHandle probModelHandle;
+    private final int threads;
+    
+    // The source of the match seeds; unseeded simulations draw a different set of matches every time
+    private SplittableRandom seeds = new SplittableRandom();
+    
+    /**
+     * 
+     * @param homeTeam The home team, with its lineup aligned
+     * @param awayTeam The away team, with its lineup aligned
+     * @param probModelFilename The probability model filename
+     */
+    public FixtureSimulator(Team homeTeam, Team awayTeam, String probModelFilename) {
+        this(homeTeam, awayTeam, probModelFilename, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * 
+     * @param homeTeam The home team, with its lineup aligned
+     * @param awayTeam The away team, with its lineup aligned
+     * @param probModelFilename The probability model filename
+     * @param threads The number of matches played at the same time
+     */
+    public FixtureSimulator(Team homeTeam, Team awayTeam, String probModelFilename, int threads) {
+        
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.probModelHandle = ProbModelHandle.forFile(probModelFilename);
+        this.threads = threads;
+    }
+    
+    /**
+     * Seeds the simulations, so that the same matches are simulated again for the same number of runs and threads
+     * @param seed The seed
+     */
+    public void setSeed(long seed) {
+        this.seeds = new SplittableRandom(seed);
+    }
+    
+    /**
+     * Simulates the fixture
+     * @param runs The number of matches simulated
+     * @return The distribution of the results of the matches
+     * @throws InterruptedException If interrupted while waiting for the matches to finish
+     */
+    public SimulationResult simulate(int runs) throws InterruptedException {
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        try {
+            
+            ArrayList<Future<SimulationResult>> batches = new ArrayList<Future<SimulationResult>>();
+            
+            // One batch per thread; each batch collects its results on its own and they are merged at the end
+            for (int batch = 0; batch < threads; batch++) {
+                
+                final int batchRuns = runs / threads + ((batch < runs % threads) ? 1 : 0);
+                
+                if (batchRuns == 0) {
+                    continue;
+                }
+                
+                // Each batch draws its match seeds from a generator of its own
+                final SplittableRandom batchSeeds = seeds.split();
+                
+                batches.add(executor.submit(new Callable<SimulationResult>() {
+                    public SimulationResult call() {
+                        return simulateBatch(batchRuns, batchSeeds);
+                    }
+                }));
+            }
+            
+            SimulationResult result = new SimulationResult();
+            
+            for (Future<SimulationResult> batch:batches) {
+                try {
+                    result.merge(batch.get());
+                } catch (ExecutionException ee) {
+                    throw new RuntimeException("Fixture simulation failed", ee.getCause());
+                }
+            }
+            
+            return result;
+            
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private SimulationResult simulateBatch(int runs, SplittableRandom seeds) {
+        
+        SimulationResult result = new SimulationResult();
+        
+        for (int run = 0; run < runs; run++) {
+            
+            Match match = new Match(homeTeam, awayTeam, probModelHandle);
+            match.setSeed(seeds.nextLong());
+            match.simulate();
+            
+            Team.Stats homeStats = match.getStats(homeTeam);
+            Team.Stats awayStats = match.getStats(awayTeam);
+            
+            int totalPossession = homeStats.getPossessionCount() + awayStats.getPossessionCount();
+            
+            int homePossessionPercentage = (totalPossession == 0) ? 50 : (int) Math.round(100d * homeStats.getPossessionCount() / totalPossession);
+            
+            result.addMatch(homeStats.getGoalsScored(), awayStats.getGoalsScored(), homePossessionPercentage);
+        }
+        
+        return result;
+    }
+}
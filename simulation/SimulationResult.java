@@ -0,0 +1,219 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package simulation;
+
+/**
+ * The distribution of the results of many simulations of a fixture: win/draw/loss probabilities, scoreline histogram, expected goals
+ * and home team possession quantiles. Results of separate batches of simulations are merged into one.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class SimulationResult {
+    
+    private int runs = 0;
+    
+    private int homeWins = 0;
+    private int draws = 0;
+    private int awayWins = 0;
+    
+    private long homeGoals = 0;
+    private long awayGoals = 0;
+    
+    // Number of matches by home and away team goals
+    private int [][] scorelines = new int[1][1];
+    
+    // Number of matches by home team possession percentage
+    private int [] homePossession = new int[101];
+    
+    /**
+     * Adds the result of a match
+     * @param homeGoals The goals scored by the home team
+     * @param awayGoals The goals scored by the away team
+     * @param homePossession The ball possession of the home team as a percentage
+     */
+    void addMatch(int homeGoals, int awayGoals, int homePossession) {
+        
+        runs++;
+        
+        if (homeGoals > awayGoals) {
+            homeWins++;
+        } else if (homeGoals == awayGoals) {
+            draws++;
+        } else {
+            awayWins++;
+        }
+        
+        this.homeGoals += homeGoals;
+        this.awayGoals += awayGoals;
+        
+        ensureScoreline(homeGoals, awayGoals);
+        scorelines[homeGoals][awayGoals]++;
+        
+        this.homePossession[homePossession]++;
+    }
+    
+    /**
+     * Adds the results of another batch of simulations of the same fixture
+     * @param result The results of the other batch
+     */
+    void merge(SimulationResult result) {
+        
+        runs += result.runs;
+        
+        homeWins += result.homeWins;
+        draws += result.draws;
+        awayWins += result.awayWins;
+        
+        homeGoals += result.homeGoals;
+        awayGoals += result.awayGoals;
+        
+        ensureScoreline(result.scorelines.length - 1, result.scorelines[0].length - 1);
+        
+        for (int home = 0; home < result.scorelines.length; home++) {
+            for (int away = 0; away < result.scorelines[home].length; away++) {
+                scorelines[home][away] += result.scorelines[home][away];
+            }
+        }
+        
+        for (int percentage = 0; percentage < homePossession.length; percentage++) {
+            homePossession[percentage] += result.homePossession[percentage];
+        }
+    }
+    
+    private void ensureScoreline(int homeGoals, int awayGoals) {
+        
+        if (homeGoals < scorelines.length && awayGoals < scorelines[0].length) {
+            return;
+        }
+        
+        int [][] resized = new int[Math.max(homeGoals + 1, scorelines.length)][Math.max(awayGoals + 1, scorelines[0].length)];
+        
+        for (int home = 0; home < scorelines.length; home++) {
+            System.arraycopy(scorelines[home], 0, resized[home], 0, scorelines[home].length);
+        }
+        
+        scorelines = resized;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public double getHomeWinProbability() {
+        return getProbability(homeWins);
+    }
+    
+    public double getDrawProbability() {
+        return getProbability(draws);
+    }
+    
+    public double getAwayWinProbability() {
+        return getProbability(awayWins);
+    }
+    
+    public double getHomeExpectedGoals() {
+        return (runs == 0) ? 0 : (double) homeGoals / runs;
+    }
+    
+    public double getAwayExpectedGoals() {
+        return (runs == 0) ? 0 : (double) awayGoals / runs;
+    }
+    
+    /**
+     * 
+     * @return The most goals scored by the home team in a simulation
+     */
+    public int getMaxHomeGoals() {
+        return scorelines.length - 1;
+    }
+    
+    /**
+     * 
+     * @return The most goals scored by the away team in a simulation
+     */
+    public int getMaxAwayGoals() {
+        return scorelines[0].length - 1;
+    }
+    
+    /**
+     * 
+     * @param homeGoals The home team goals
+     * @param awayGoals The away team goals
+     * @return The number of simulations ending with the scoreline
+     */
+    public int getScorelineCount(int homeGoals, int awayGoals) {
+        
+        if (homeGoals < 0 || awayGoals < 0 || homeGoals >= scorelines.length || awayGoals >= scorelines[0].length) {
+            return 0;
+        }
+        
+        return scorelines[homeGoals][awayGoals];
+    }
+    
+    public double getScorelineProbability(int homeGoals, int awayGoals) {
+        return getProbability(getScorelineCount(homeGoals, awayGoals));
+    }
+    
+    /**
+     * 
+     * @param quantile The quantile, between 0 and 1
+     * @return The ball possession of the home team as a percentage, at the quantile of all simulations
+     */
+    public int getHomePossessionQuantile(double quantile) {
+        
+        if (runs == 0) {
+            return 0;
+        }
+        
+        long rank = Math.max(1, (long) Math.ceil(quantile * runs));
+        long count = 0;
+        
+        for (int percentage = 0; percentage < homePossession.length; percentage++) {
+            count += homePossession[percentage];
+            if (count >= rank) {
+                return percentage;
+            }
+        }
+        
+        return homePossession.length - 1;
+    }
+    
+    private double getProbability(int count) {
+        return (runs == 0) ? 0 : (double) count / runs;
+    }
+    
+    public String toString() {
+        
+        StringBuilder summary = new StringBuilder();
+        
+        summary.append("Runs: " + runs + "\n");
+        summary.append("Home win/draw/away win: " + format(getHomeWinProbability()) + " / " + format(getDrawProbability()) + " / " + 
+                format(getAwayWinProbability()) + "\n");
+        summary.append("Expected goals: " + format(getHomeExpectedGoals()) + " - " + format(getAwayExpectedGoals()) + "\n");
+        summary.append("Home possession (10%, 50%, 90%): " + getHomePossessionQuantile(0.1) + "%, " + getHomePossessionQuantile(0.5) + 
+                "%, " + getHomePossessionQuantile(0.9) + "%\n");
+        
+        return summary.toString();
+    }
+    
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+}
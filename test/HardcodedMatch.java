@@ -119,6 +119,14 @@ public class HardcodedMatch {
         
         Match match = new Match(homeTeam, awayTeam);
         
+        // A match is played again from its seed
+        if (args.length > 0) {
+            match.setSeed(Long.parseLong(args[0]));
+        }
+        
+        System.out.println("Match seed: " + match.getSeed());
+        System.out.println();
+        
         Signal currentSignal = match.play(0); // Kick off
         // System.out.println(currentSignal);
         
@@ -30,7 +30,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import test.exceptions.InvalidPosValueException;
 import utility.Config;
@@ -48,13 +48,11 @@ import core.Team;
 
 public class PrepareMatch {
     
-    private static Random rnd = new Random();
-    
     private static String DATABASE_ADDRESS;
     
     /**
      * The 'desktop' version of a match: it demonstrates the match preparation and outputs various information relevant to the match
-     * @param args The database ids of the teams
+     * @param args The database ids of the teams, optionally followed by the seed of the match for playing it again
      */
     public static void main(String[] args) {
         
@@ -183,6 +181,13 @@ public class PrepareMatch {
             
             Match match = new Match(homeTeam, awayTeam);
             
+            if (args.length > 2) {
+                match.setSeed(Long.parseLong(args[2]));
+            }
+            
+            System.out.println("Match seed: " + match.getSeed());
+            System.out.println();
+            
             Signal currentSignal = match.play(0); // Kick off
             // System.out.println(currentSignal);
             
@@ -269,8 +274,9 @@ public class PrepareMatch {
      * Testing only: displays the averages of the pass attribute strength per team and position in random basis
      * @param homeTeam The home team object
      * @param awayTeam The away team object
+     * @param rnd The random number generator
      */
-    private static void avgTest(Team homeTeam, Team awayTeam) {
+    private static void avgTest(Team homeTeam, Team awayTeam, SplittableRandom rnd) {
         
         ArrayList<Byte> positions = new ArrayList<Byte>();
         ArrayList<Boolean> isHomeTeam = new ArrayList<Boolean>();
@@ -295,8 +301,9 @@ public class PrepareMatch {
      * Testing only: displayes the averages of random attributes strength per team and position in random basis
      * @param homeTeam The home team object
      * @param awayTeam The away team object
+     * @param rnd The random number generator
      */
-    private static void avgAttributeTest(Team homeTeam, Team awayTeam) {
+    private static void avgAttributeTest(Team homeTeam, Team awayTeam, SplittableRandom rnd) {
         
         ArrayList<String> allAttributes = new ArrayList<String>();
         
@@ -326,8 +333,9 @@ public class PrepareMatch {
      * Testing only: Display random attributes strengths of random players
      * @param homeTeam The home team object
      * @param awayTeam The away team object
+     * @param rnd The random number generator
      */
-    private static void initTest(Team homeTeam, Team awayTeam) {
+    private static void initTest(Team homeTeam, Team awayTeam, SplittableRandom rnd) {
         
         ArrayList<String> allAttributes = new ArrayList<String>();
         
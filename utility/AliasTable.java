@@ -0,0 +1,156 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package utility;
+
+import java.util.SplittableRandom;
+
+/**
+ * A table for drawing from a discrete probability distribution in constant time, built with Vose's version of Walker's alias method.
+ * Building the table takes linear time in the number of outcomes, so a table is worth building for distributions drawn from more than once.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class AliasTable {
+    
+    private final double [] probability;
+    private final int [] alias;
+    
+    /**
+     * Builds the table of a distribution
+     * @param weights The weight of each outcome. They need not sum up to one, but their sum must be positive.
+     */
+    public AliasTable(double [] weights) {
+        
+        int size = weights.length;
+        
+        probability = new double[size];
+        alias = new int[size];
+        
+        double total = 0;
+        
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+        
+        if (!(total > 0)) {
+            throw new IllegalArgumentException("The weights of a distribution must have a positive sum");
+        }
+        
+        // Scale the weights so that their average is one, and split the outcomes to the ones below and above the average
+        double [] scaled = new double[size];
+        int [] small = new int[size];
+        int [] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        
+        // Each column is filled up by an outcome below the average and topped up by an outcome above it
+        while (smallCount > 0 && largeCount > 0) {
+            
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            
+            probability[less] = scaled[less];
+            alias[less] = more;
+            
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        
+        // Whatever is left is at the average, save for rounding errors
+        while (largeCount > 0) {
+            int more = large[--largeCount];
+            probability[more] = 1;
+            alias[more] = more;
+        }
+        
+        while (smallCount > 0) {
+            int less = small[--smallCount];
+            probability[less] = 1;
+            alias[less] = less;
+        }
+    }
+    
+    /**
+     * Restores a table from its columns, as returned by {@link #getProbability(int)} and {@link #getAlias(int)}
+     * @param probability The probability of each column's own outcome
+     * @param alias The alternative outcome of each column
+     */
+    public AliasTable(double [] probability, int [] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+    
+    /**
+     * 
+     * @param column The table column
+     * @return The probability that a draw falling in the column results to the column's own outcome
+     */
+    public double getProbability(int column) {
+        return probability[column];
+    }
+    
+    /**
+     * 
+     * @param column The table column
+     * @return The outcome of a draw falling in the column, when it does not result to the column's own outcome
+     */
+    public int getAlias(int column) {
+        return alias[column];
+    }
+    
+    /**
+     * 
+     * @return The number of outcomes
+     */
+    public int size() {
+        return probability.length;
+    }
+    
+    /**
+     * Draws an outcome
+     * @param rnd The random number generator
+     * @return The index of the outcome
+     */
+    public int sample(SplittableRandom rnd) {
+        
+        int column = rnd.nextInt(probability.length);
+        
+        if (rnd.nextDouble() < probability[column]) {
+            return column;
+        } else {
+            return alias[column];
+        }
+    }
+
+}
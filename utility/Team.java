@@ -19,7 +19,7 @@ package utility;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Set;
 
 /**
@@ -35,14 +35,9 @@ public class Team {
     private HashMap<Player, Tactics.TacticLine> lineup = new HashMap<Player, Tactics.TacticLine>();
     protected String name;
     
-    protected Stats stats = new Stats();
-    protected MatchEvents events = new MatchEvents();
-    
     protected double finishing;
     protected double shooting;
     
-    protected static Random rnd = new Random();
-    
     /**
      * The goal details in report format
      */
@@ -117,10 +112,10 @@ public class Team {
     }
     
     /**
-     * Aggregator class comprising goal and missed penalty details of the team
+     * Aggregator class comprising goal and missed penalty details of the team in a match
      */
     
-    public class MatchEvents {
+    public static class MatchEvents {
         
         private ArrayList<GoalDetails> goalDetails = new ArrayList<GoalDetails>();
         private ArrayList<MissedPenaltyDetails> penaltyDetails = new ArrayList<MissedPenaltyDetails>();
@@ -143,13 +138,29 @@ public class Team {
         public void setPenaltyDetails(ArrayList<MissedPenaltyDetails> penaltyDetails) {
             this.penaltyDetails = penaltyDetails;
         }
+        
+        /**
+         * Add a goal event in the list of team events
+         * @param goal The goal representation
+         */
+        public void registerGoalEvent(GoalDetails goal) {
+            goalDetails.add(goal);
+        }
+        
+        /**
+         * Add a missed penalty event in the list of team events
+         * @param missedPenalty The missed penalty representation
+         */
+        public void registerMissedPenalty(MissedPenaltyDetails missedPenalty) {
+            penaltyDetails.add(missedPenalty);
+        }
     }
     
     /**
-     * The teams stats class 
+     * The team stats class. The stats of a team in a match are kept by the match, not by the team object.
      */
     
-    public class Stats {
+    public static class Stats {
         
         private int possession = 0;
         private int goalsScored = 0;
@@ -230,22 +241,6 @@ public class Team {
         }
     }
     
-    /**
-     * Add a goal event in the list of team events
-     * @param goal The goal representation
-     */
-    public void registerGoalEvent(GoalDetails goal) {
-        events.goalDetails.add(goal);
-    }
-    
-    /**
-     * Add a missed penalty event in the list of team events
-     * @param missedPenalty The missed penalty representation
-     */
-    public void registerMissedPenalty(MissedPenaltyDetails missedPenalty) {
-        events.penaltyDetails.add(missedPenalty);
-    }
-    
     /**
      * Team initialization
      * @param name The team name
@@ -276,14 +271,6 @@ public class Team {
         return name;
     }
     
-    public Stats getStats() {
-        return stats;
-    }
-    
-    public MatchEvents getMatchEvents() {
-        return this.events;
-    }
-    
     public double getFinishing() {
         return finishing;
     }
@@ -309,9 +296,10 @@ public class Team {
     
     /**
      * Find a defending player getting the rebound from an opponent's attacking effort
+     * @param rnd The random number generator of the match
      * @return A random player who qualifies for the defending rebound (only a defender for the time being)
      */
-    public Player getDefensiveRebounder() {
+    public Player getDefensiveRebounder(SplittableRandom rnd) {
         
         Set<Player> players = lineup.keySet();
         ArrayList<Player> candidateRebounders = new ArrayList<Player>();
@@ -327,9 +315,10 @@ public class Team {
     
     /**
      * Find an attacking player getting the rebound from its team's attacking effort
+     * @param rnd The random number generator of the match
      * @return A weighted random player qualifying for the attacking rebound
      */
-    public Player getAttackingRebounder() {
+    public Player getAttackingRebounder(SplittableRandom rnd) {
         
         Set<Player> players = lineup.keySet();
         HashMap<Player, Double> candidateRebounders = new HashMap<Player, Double>();
@@ -340,16 +329,17 @@ public class Team {
             candidateRebounders.put(player, reboundingWeight);
         }
         
-        return getWeightedRandom(totalReboundingWeight, candidateRebounders);
+        return getWeightedRandom(totalReboundingWeight, candidateRebounders, rnd);
     }
 
     /**
      * Calculate the weighted random of a number of players
      * @param total The sum of the players' weights
      * @param weightedPlayers The association of players to their weights
+     * @param rnd The random number generator of the match
      * @return A weighted random player
      */
-    private Player getWeightedRandom(double total, HashMap<Player, Double> weightedPlayers) {
+    private Player getWeightedRandom(double total, HashMap<Player, Double> weightedPlayers, SplittableRandom rnd) {
         double reboundIndex = rnd.nextDouble() * total;
         double checkedWeight = 0;
         for (Player player:weightedPlayers.keySet()) {
@@ -363,9 +353,10 @@ public class Team {
     
     /**
      * Calculates the scorer of a goal "after the fact"
+     * @param rnd The random number generator of the match
      * @return The goal scorer according to some weighted distribution among players
      */ 
-    public Player getGoalScorer() {
+    public Player getGoalScorer(SplittableRandom rnd) {
         
         HashMap<Player, Tactics.TacticLine> lineup = this.lineup;
         HashMap<Player, Double> scoringLineup = new HashMap<Player, Double>();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010 Andreas Tasoulas
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0 
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ *  
+ */
+
+package utility;
+
+import java.util.Arrays;
+
+/**
+ * A growable series of virtual times kept in a primitive array, so that recording an event does not box its time. The times are appended 
+ * in the order the events take place, so the series is sorted and is sliced at a time with a binary search.
+ * 
+ * @author Andreas Tasoulas
+ *
+ */
+
+public class TimeSeries {
+    
+    private final static int INITIAL_CAPACITY = 8;
+    
+    private int [] times;
+    private int size = 0;
+    
+    public TimeSeries() {
+        this.times = new int[INITIAL_CAPACITY];
+    }
+    
+    private TimeSeries(int [] times, int size) {
+        this.times = times;
+        this.size = size;
+    }
+    
+    /**
+     * Appends the time of an event
+     * @param time The virtual time, not earlier than the last time of the series
+     * @throws IllegalArgumentException If the time is earlier than the last time of the series, as the series would no longer be 
+     * sorted. A series is truncated to a time before events are recorded again from that time
+     */
+    public void add(int time) {
+        
+        if (size > 0 && time < times[size - 1]) {
+            throw new IllegalArgumentException("Time " + time + " is earlier than the last time of the series: " + times[size - 1]);
+        }
+        
+        if (size == times.length) {
+            times = Arrays.copyOf(times, 2 * times.length);
+        }
+        
+        times[size++] = time;
+    }
+    
+    /**
+     * 
+     * @return The number of events in the series
+     */
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * 
+     * @param index The index of an event in the series
+     * @return The virtual time of the event
+     */
+    public int get(int index) {
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        return times[index];
+    }
+    
+    /**
+     * 
+     * @param time A virtual time
+     * @return The number of events earlier than the time
+     */
+    public int countBefore(int time) {
+        
+        int low = 0;
+        int high = size;
+        
+        // Find the first event not earlier than the time
+        while (low < high) {
+            
+            int middle = (low + high) >>> 1;
+            
+            if (times[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        
+        return low;
+    }
+    
+    /**
+     * Removes the events from a time onward
+     * @param time The virtual time
+     */
+    public void truncate(int time) {
+        this.size = countBefore(time);
+    }
+    
+    /**
+     * 
+     * @param time A virtual time
+     * @return A new series of the events earlier than the time
+     */
+    public TimeSeries before(int time) {
+        
+        int earlierSize = countBefore(time);
+        
+        return new TimeSeries(Arrays.copyOf(times, Math.max(earlierSize, INITIAL_CAPACITY)), earlierSize);
+    }
+
+}